@@ -0,0 +1,36 @@
+package com.example.myapplication;
+
+import android.content.res.AssetManager;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+// Gameplan bundled in the assets folder. Assets never change at runtime, so the file is parsed
+// once and the calendar is reused for every model.
+public final class AssetFixtureSource implements FixtureSource {
+    private final AssetManager assetManager;
+    private final String fileName;
+    private volatile FixtureCalendar calendar;
+
+    public AssetFixtureSource(AssetManager assetManager, String fileName) {
+        this.assetManager = assetManager;
+        this.fileName = fileName;
+    }
+
+    @Override
+    public FixtureCalendar getFixtures() throws IOException {
+        FixtureCalendar result = calendar;
+        if (result == null) {
+            synchronized (this) {
+                result = calendar;
+                if (result == null) {
+                    try (Reader reader = new InputStreamReader(assetManager.open(fileName), "UTF-8")) {
+                        result = calendar = FixtureCalendar.parse(reader);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.myapplication;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Runs blocking loads (file I/O, parsing, predictions) off the UI thread and delivers
+// the results on the main thread.
+// Loaders share one bounded executor for short, UI-facing loads. Long-running work such as
+// downloads passes its own executor, so it can not hold up screen loads. Each activity owns its
+// own DataLoader and calls cancelAll() in onDestroy(), after which no callback of that loader will run.
+public final class DataLoader {
+    // TAG for logging purposes
+    private static final String TAG = "DataLoader";
+
+    // Shared worker pool: at most two loads run at once, at most 32 wait in the queue
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+            2, 2, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(32), new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "DataLoader-" + count.incrementAndGet());
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                }
+            });
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+
+    // Callback invoked on the main thread with the result of a load
+    public interface Callback<T> {
+        void onLoaded(T result);
+    }
+
+    // Callback invoked on the main thread if a load throws
+    public interface ErrorCallback {
+        void onError(Exception e);
+    }
+
+    // Executor the loads of this loader run on
+    private final ExecutorService executor;
+
+    // Loader on the shared pool
+    public DataLoader() {
+        this(EXECUTOR);
+    }
+
+    // Loader on another executor, e.g. for network transfers with retries and backoff
+    public DataLoader(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    // Loads started by this loader that may still be running
+    private final List<Task<?>> tasks = new ArrayList<>();
+    private boolean cancelled;
+
+    // Runs the task in the background and passes its result to the callback on the main thread
+    public <T> void load(Callable<T> work, Callback<T> callback) {
+        load(work, callback, e -> Log.e(TAG, "Background load failed", e));
+    }
+
+    // Same as load(work, callback) with an explicit error handler
+    public <T> void load(Callable<T> work, Callback<T> callback, ErrorCallback errorCallback) {
+        Task<T> task = new Task<>(work, callback, errorCallback);
+        synchronized (tasks) {
+            if (cancelled) return;
+            pruneFinished();
+            tasks.add(task);
+        }
+        try {
+            task.future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            task.deliverError(e);
+        }
+    }
+
+    // Cancels all pending and running loads; their callbacks will not be invoked
+    public void cancelAll() {
+        synchronized (tasks) {
+            cancelled = true;
+            for (Task<?> task : tasks) {
+                task.cancel();
+            }
+            tasks.clear();
+        }
+    }
+
+    private void pruneFinished() {
+        Iterator<Task<?>> iterator = tasks.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().done) iterator.remove();
+        }
+    }
+
+    private static final class Task<T> implements Runnable {
+        private final Callable<T> work;
+        private final Callback<T> callback;
+        private final ErrorCallback errorCallback;
+        volatile Future<?> future;
+        volatile boolean cancelled;
+        volatile boolean done;
+
+        Task(Callable<T> work, Callback<T> callback, ErrorCallback errorCallback) {
+            this.work = work;
+            this.callback = callback;
+            this.errorCallback = errorCallback;
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) return;
+            try {
+                T result = work.call();
+                MAIN_HANDLER.post(() -> {
+                    done = true;
+                    if (!cancelled) callback.onLoaded(result);
+                });
+            } catch (Exception e) {
+                deliverError(e);
+            }
+        }
+
+        void deliverError(Exception e) {
+            MAIN_HANDLER.post(() -> {
+                done = true;
+                if (!cancelled) errorCallback.onError(e);
+            });
+        }
+
+        void cancel() {
+            cancelled = true;
+            Future<?> running = future;
+            if (running != null) running.cancel(false); // Never interrupt: loads may hold the shared repository lock
+        }
+    }
+}
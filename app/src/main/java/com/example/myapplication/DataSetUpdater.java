@@ -1,192 +1,83 @@
 package com.example.myapplication;
 
 import android.content.Context;
-import android.os.AsyncTask;
 import android.util.Log;
 
 import java.io.*;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.text.SimpleDateFormat;
 import java.util.*;
 
 public class DataSetUpdater {
 
     private static final String LATEST_CSV_URL = "https://www.football-data.co.uk/mmz4281/2425/D1.csv";
-    private static final String OUTPUT_FILE_NAME = "2015-2024_Bundesligadata.csv";
-    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("dd/MM/yyyy", Locale.ENGLISH);
+
+    // Runs the update on the network executor instead of the shared loader pool and reports back on the main thread
+    private final DataLoader dataLoader = new DataLoader(FetchScheduler.networkExecutor());
+
+    // Ergebnis eines Updates
+    public enum UpdateResult {
+        UPDATED,   // Datei wurde heruntergeladen und ggf. ergänzt
+        UNCHANGED, // Server hat 304 geliefert, die gespeicherten Daten sind aktuell
+        FAILED
+    }
 
     public interface UpdateCallback {
-        void onUpdateCompleted(boolean success);
+        void onUpdateCompleted(UpdateResult result);
     }
 
     public void updateDataset(Context context, UpdateCallback callback) {
-        new UpdateDatasetTask(context, callback).execute(LATEST_CSV_URL);
+        Context appContext = context.getApplicationContext();
+        dataLoader.load(() -> update(appContext, FetchScheduler.createDefault(), new HttpValidatorStore(appContext)),
+                callback::onUpdateCompleted, e -> {
+                    Log.e("DatasetUpdater", "Error updating dataset", e);
+                    callback.onUpdateCompleted(UpdateResult.FAILED);
+                });
     }
 
-    private static class UpdateDatasetTask extends AsyncTask<String, Void, Boolean> {
-        private final Context context;
-        private final UpdateCallback callback;
-
-        public UpdateDatasetTask(Context context, UpdateCallback callback) {
-            this.context = context;
-            this.callback = callback;
-        }
-
-        @Override
-        protected Boolean doInBackground(String... urls) {
-            File outputFile = new File(context.getFilesDir(), OUTPUT_FILE_NAME);
-            String header = null;
-            List<String> allData = new ArrayList<>();
-            boolean isFirstFile = true;
-            Map<String, Integer> existingGamedays = loadExistingGamedays(outputFile);
-
-            try {
-                // Letzte CSV-Datei herunterladen und parsen
-                HttpURLConnection connection = (HttpURLConnection) new URL(urls[0]).openConnection();
-                connection.setRequestMethod("GET");
-
-                BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-                String line;
-
-                SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
-                Calendar calendar = Calendar.getInstance();
-                String currentSeason = "";
-                int currentGameday = 1;
-                int gamesInCurrentGameday = 0;
-
-                boolean skipHeader = false;
-                while ((line = reader.readLine()) != null) {
-                    if (header == null) {
-                        header = line.replaceAll(",Time", ""); // Remove Time column
-                        skipHeader = true;
-                        continue;
-                    }
-
-                    if (skipHeader) {
-                        skipHeader = false;
-                        continue;
-                    }
-
-                    String[] columns = line.split(",");
-                    if (columns.length < 2) continue; // Skip invalid rows
-
-                    // Remove Time column if present
-                    if (columns.length > 2 && columns[2].matches("\\d{2}:\\d{2}")) {
-                        String[] newColumns = new String[columns.length - 1];
-                        System.arraycopy(columns, 0, newColumns, 0, 2);
-                        System.arraycopy(columns, 3, newColumns, 2, columns.length - 3);
-                        columns = newColumns;
-                    }
-
-                    String gameDateString = columns[1];
-                    Date gameDate;
-                    try {
-                        gameDate = dateFormat.parse(gameDateString);
-                    } catch (Exception e) {
-                        Log.e("DatasetUpdater", "Invalid date format: " + gameDateString, e);
-                        continue;
-                    }
+    static UpdateResult update(Context context, FetchScheduler scheduler, HttpValidatorStore validatorStore)
+            throws InterruptedException {
+        MatchRepository repository = MatchRepository.getInstance(context);
+        File outputFile = repository.getDataFile();
 
-                    calendar.setTime(gameDate);
-                    int year = calendar.get(Calendar.YEAR);
-                    int month = calendar.get(Calendar.MONTH) + 1;
+        // Bedingte Anfrage nur, wenn die lokale Datei existiert; sonst würde ein 304 keine Daten liefern
+        FetchScheduler.Validators cached = outputFile.exists() ? validatorStore.get(LATEST_CSV_URL) : null;
 
-                    String season = getSeasonForDate(year, month);
-                    if (!season.equals(currentSeason)) {
-                        currentSeason = season;
-                        currentGameday = 1;
-                        gamesInCurrentGameday = 0;
-                    }
-
-                    if (gamesInCurrentGameday < 9) {
-                        gamesInCurrentGameday++;
-                    } else {
-                        currentGameday++;
-                        gamesInCurrentGameday = 1;
-                    }
-
-                    // Skip rows where the gameday is less than or equal to the maximum gameday for the season in the existing file
-                    if (existingGamedays.containsKey(currentSeason) && currentGameday <= existingGamedays.get(currentSeason)) {
-                        continue;
-                    }
-
-                    StringBuilder modifiedLine = new StringBuilder();
-                    modifiedLine.append(currentSeason).append(",").append(currentGameday).append(",");
-                    for (String column : columns) {
-                        modifiedLine.append(column).append(",");
-                    }
-                    allData.add(modifiedLine.toString().replaceAll(",$", ""));
-                }
-                reader.close();
-                connection.disconnect();
-            } catch (Exception e) {
-                Log.e("DatasetUpdater", "Error updating dataset", e);
-                return false;
-            }
-
-            // Neue Zeilen an die bestehende Datei anhängen
-            return appendNewLinesToFile(outputFile, header, allData);
-        }
-
-        @Override
-        protected void onPostExecute(Boolean success) {
-            callback.onUpdateCompleted(success);
+        // Letzte CSV-Datei herunterladen und normalisieren (mit Retries)
+        FetchScheduler.Result<SeasonNormalizer.Season> result = scheduler.fetch(LATEST_CSV_URL, cached,
+                (url, body) -> SeasonNormalizer.normalize(SeasonNormalizer.seasonForUrl(url), body));
+        if (!result.isSuccess()) {
+            Log.e("DatasetUpdater", "Error updating dataset", result.error);
+            return UpdateResult.FAILED;
         }
-
-        private Map<String, Integer> loadExistingGamedays(File file) {
-            Map<String, Integer> seasonGamedays = new HashMap<>();
-            if (!file.exists()) return seasonGamedays;
-
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                boolean isFirstLine = true;
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    if (isFirstLine) { // Skip header
-                        isFirstLine = false;
-                        continue;
-                    }
-
-                    String[] columns = line.split(",");
-                    if (columns.length < 3) continue; // Skip invalid rows
-
-                    String season = columns[0];
-                    int gameday;
-                    try {
-                        gameday = Integer.parseInt(columns[1]);
-                    } catch (NumberFormatException e) {
-                        Log.e("DatasetUpdater", "Invalid gameday format: " + columns[1], e);
-                        continue;
-                    }
-
-                    seasonGamedays.put(season, Math.max(seasonGamedays.getOrDefault(season, 0), gameday));
-                }
-            } catch (IOException e) {
-                Log.e("DatasetUpdater", "Error reading existing file", e);
-            }
-            return seasonGamedays;
+        if (result.notModified) {
+            // Nichts geändert: weder parsen noch schreiben
+            return UpdateResult.UNCHANGED;
         }
+        SeasonNormalizer.Season season = result.value;
 
-        private boolean appendNewLinesToFile(File file, String header, List<String> newLines) {
-            try (BufferedWriter writer = new BufferedWriter(new FileWriter(file, true))) {
-                if (!file.exists()) {
-                    writer.write("Season,Gameday," + header);
-                    writer.newLine();
-                }
+        // Höchster bereits gespeicherter Spieltag der Saison, direkt aus dem Match-Store
+        MatchTable existing = repository.getTable();
+        int existingGameday = existing.getLatestGameday(existing.getSeasons().idOf(season.season));
 
-                for (String line : newLines) {
-                    writer.write(line);
-                    writer.newLine();
-                }
-                return true;
-            } catch (IOException e) {
-                Log.e("DatasetUpdater", "Error appending to file", e);
-                return false;
+        // Skip rows where the gameday is less than or equal to the maximum gameday for the season in the existing file
+        List<String> newLines = new ArrayList<>();
+        for (int row = 0; row < season.rows.size(); row++) {
+            if (season.gamedayOf(row) > existingGameday) {
+                newLines.add(season.rows.get(row));
             }
         }
 
-        private String getSeasonForDate(int year, int month) {
-            return (month >= 8) ? year + "/" + (year + 1) : (year - 1) + "/" + year;
+        // Neue Zeilen atomar an die bestehende Datei anhängen; Match-Store und Snapshot werden neu aufgebaut.
+        // Eine Datei mit älterem Spaltenlayout wird dabei umgeschrieben statt neu heruntergeladen
+        try {
+            repository.appendToDataset(season.header, newLines);
+        } catch (IOException e) {
+            Log.e("DatasetUpdater", "Error appending to file", e);
+            // Validatoren verwerfen, damit der nächste Start wieder vollständig lädt
+            validatorStore.remove(LATEST_CSV_URL);
+            return UpdateResult.FAILED;
         }
+        // Erst nach erfolgreichem Schreiben merken, sonst könnte ein 304 fehlende Zeilen verdecken
+        validatorStore.put(LATEST_CSV_URL, result.validators);
+        return UpdateResult.UPDATED;
     }
 }
@@ -0,0 +1,233 @@
+package com.example.myapplication;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+// Downloads and parses several CSV files in parallel over OkHttp.
+// At most maxConcurrency downloads run at once. Network errors and 408/429/5xx responses
+// are retried with exponential backoff; every file is parsed on the thread that downloaded it.
+public final class FetchScheduler {
+    // Shared client so that all downloads reuse one connection pool
+    private static final OkHttpClient DEFAULT_CLIENT = new OkHttpClient.Builder()
+            .connectTimeout(15, TimeUnit.SECONDS)
+            .readTimeout(30, TimeUnit.SECONDS)
+            .build();
+
+    // Pool for downloads and the work around them (parsing, writing the dataset). It is separate
+    // from OkHttp's dispatcher, which the client owns, and from the DataLoader pool of screen loads.
+    // At most six threads, at most 32 tasks wait in the queue; idle threads end after 30 s.
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+            6, 6, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(32), new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "FetchScheduler-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private final OkHttpClient client;
+    private final int maxConcurrency;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+
+    // Turns a downloaded body into a result; called on a worker thread
+    public interface BodyParser<T> {
+        T parse(String url, BufferedReader body) throws IOException;
+    }
+
+    // ETag and Last-Modified of a downloaded file, either may be null
+    public static final class Validators {
+        public final String etag;
+        public final String lastModified;
+
+        public Validators(String etag, String lastModified) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        public boolean isEmpty() {
+            return etag == null && lastModified == null;
+        }
+    }
+
+    // Outcome of one download: a value, "not modified" (304) or the error of the last attempt
+    public static final class Result<T> {
+        public final String url;
+        public final T value;
+        public final Exception error;
+        public final boolean notModified;
+        public final Validators validators; // Validators to send with the next request
+
+        Result(String url, T value, Exception error) {
+            this(url, value, error, false, null);
+        }
+
+        Result(String url, T value, Exception error, boolean notModified, Validators validators) {
+            this.url = url;
+            this.value = value;
+            this.error = error;
+            this.notModified = notModified;
+            this.validators = validators;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+
+    public FetchScheduler(OkHttpClient client, int maxConcurrency, int maxAttempts, long initialBackoffMillis) {
+        if (maxConcurrency < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("maxConcurrency and maxAttempts must be at least 1");
+        }
+        this.client = client;
+        this.maxConcurrency = maxConcurrency;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+    }
+
+    // Executor for background tasks that download, e.g. a DataLoader running fetchAll(), so a slow
+    // transfer never occupies the DataLoader pool that screen loads run on. Shared, never shut it down.
+    public static ExecutorService networkExecutor() {
+        return EXECUTOR;
+    }
+
+    // Scheduler with the shared client: 4 parallel downloads, 3 attempts, 500 ms initial backoff
+    public static FetchScheduler createDefault() {
+        return new FetchScheduler(DEFAULT_CLIENT, 4, 3, 500);
+    }
+
+    // Downloads all URLs and returns one result per URL, in the order of the input list.
+    // Blocks until every download has finished or given up. The calling thread downloads too, so
+    // the call also completes when it runs on the shared executor and no other thread is free.
+    public <T> List<Result<T>> fetchAll(List<String> urls, BodyParser<T> parser) throws InterruptedException {
+        int count = urls.size();
+        AtomicReferenceArray<Result<T>> results = new AtomicReferenceArray<>(count);
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch finished = new CountDownLatch(count);
+
+        List<Future<?>> helpers = new ArrayList<>();
+        try {
+            for (int i = 1; i < Math.min(maxConcurrency, count); i++) {
+                helpers.add(EXECUTOR.submit(() -> {
+                    try {
+                        fetchRemaining(urls, parser, next, results, finished);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt(); // Cancelled by the caller
+                    }
+                }));
+            }
+        } catch (RejectedExecutionException e) {
+            // Queue full: the calling thread and the helpers started so far take the remaining URLs
+        }
+
+        try {
+            fetchRemaining(urls, parser, next, results, finished);
+            finished.await();
+        } finally {
+            for (Future<?> helper : helpers) {
+                helper.cancel(true);
+            }
+        }
+
+        List<Result<T>> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(results.get(i));
+        }
+        return list;
+    }
+
+    // Takes URLs from the shared position until none are left; results go to the slot of their URL
+    private <T> void fetchRemaining(List<String> urls, BodyParser<T> parser, AtomicInteger next,
+                                    AtomicReferenceArray<Result<T>> results, CountDownLatch finished) throws InterruptedException {
+        int i;
+        while ((i = next.getAndIncrement()) < urls.size()) {
+            String url = urls.get(i);
+            try {
+                results.set(i, fetch(url, parser));
+            } catch (RuntimeException e) {
+                // fetch() reports failures through Result; this only happens for unexpected errors
+                results.set(i, new Result<>(url, null, e));
+            }
+            finished.countDown();
+        }
+    }
+
+    // Downloads and parses one URL on the calling thread, retrying transient failures
+    public <T> Result<T> fetch(String url, BodyParser<T> parser) throws InterruptedException {
+        return fetch(url, null, parser);
+    }
+
+    // Conditional variant of fetch(): sends If-None-Match / If-Modified-Since from the cached validators.
+    // A 304 response is returned as a successful result with notModified set and no parsing.
+    public <T> Result<T> fetch(String url, Validators cached, BodyParser<T> parser) throws InterruptedException {
+        Exception lastError = null;
+        long backoff = initialBackoffMillis;
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            if (attempt > 1) {
+                Thread.sleep(backoff);
+                backoff *= 2;
+            }
+
+            Request.Builder request = new Request.Builder().url(url);
+            if (cached != null && cached.etag != null) {
+                request.header("If-None-Match", cached.etag);
+            }
+            if (cached != null && cached.lastModified != null) {
+                request.header("If-Modified-Since", cached.lastModified);
+            }
+
+            try (Response response = client.newCall(request.build()).execute()) {
+                if (response.code() == 304) {
+                    return new Result<>(url, null, null, true, cached);
+                }
+                if (response.isSuccessful()) {
+                    ResponseBody body = response.body();
+                    if (body == null) {
+                        throw new IOException("Empty response body for " + url);
+                    }
+                    Validators validators = new Validators(response.header("ETag"), response.header("Last-Modified"));
+                    try (BufferedReader reader = new BufferedReader(body.charStream())) {
+                        return new Result<>(url, parser.parse(url, reader), null, false, validators);
+                    }
+                }
+
+                lastError = new IOException("HTTP " + response.code() + " for " + url);
+                if (!isRetryable(response.code())) {
+                    break;
+                }
+            } catch (IOException e) {
+                lastError = e;
+            }
+        }
+        return new Result<>(url, null, lastError);
+    }
+
+    private static boolean isRetryable(int code) {
+        return code == 408 || code == 429 || code >= 500;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.myapplication;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+// Remembers the ETag and Last-Modified header of every downloaded URL, so that later
+// downloads can be sent as conditional requests and answered with 304 Not Modified.
+public final class HttpValidatorStore {
+    private static final String PREFS_NAME = "http_validators";
+    private static final String ETAG_SUFFIX = "|etag";
+    private static final String LAST_MODIFIED_SUFFIX = "|lastModified";
+
+    private final SharedPreferences preferences;
+
+    public HttpValidatorStore(Context context) {
+        preferences = context.getApplicationContext().getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    }
+
+    // Validators stored for the URL, or null if there are none
+    public FetchScheduler.Validators get(String url) {
+        FetchScheduler.Validators validators = new FetchScheduler.Validators(
+                preferences.getString(url + ETAG_SUFFIX, null),
+                preferences.getString(url + LAST_MODIFIED_SUFFIX, null));
+        return validators.isEmpty() ? null : validators;
+    }
+
+    // Stores the validators of the last successful download; null or empty validators clear the entry
+    public void put(String url, FetchScheduler.Validators validators) {
+        SharedPreferences.Editor editor = preferences.edit();
+        if (validators == null || validators.isEmpty()) {
+            editor.remove(url + ETAG_SUFFIX).remove(url + LAST_MODIFIED_SUFFIX);
+        } else {
+            putOrRemove(editor, url + ETAG_SUFFIX, validators.etag);
+            putOrRemove(editor, url + LAST_MODIFIED_SUFFIX, validators.lastModified);
+        }
+        editor.apply();
+    }
+
+    public void remove(String url) {
+        put(url, null);
+    }
+
+    private static void putOrRemove(SharedPreferences.Editor editor, String key, String value) {
+        if (value != null) {
+            editor.putString(key, value);
+        } else {
+            editor.remove(key);
+        }
+    }
+}
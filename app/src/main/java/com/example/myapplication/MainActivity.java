@@ -5,9 +5,10 @@ import android.os.Bundle;
 import android.util.Log;
 import android.widget.Button;
 import android.widget.Spinner;
-import android.widget.TableLayout;
+import android.widget.LinearLayout;
 
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.recyclerview.widget.RecyclerView;
 import com.google.firebase.auth.FirebaseAuth;
 
 import java.io.File;
@@ -18,6 +19,8 @@ public class MainActivity extends AppCompatActivity {
     private Button predictionButton; // Button for predictions
     private Button teamInsightsButton; // Button for team insights
     private Button resultsButton; // Button for results
+    private Button seasonOverviewButton; // Button for the season overview
+    private final DataLoader dataLoader = new DataLoader(); // Background loads for this screen
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -25,21 +28,25 @@ public class MainActivity extends AppCompatActivity {
         setContentView(R.layout.activity_main);
 
         // Initialize views
-        TableLayout tableLayout = findViewById(R.id.tableLayout);
+        RecyclerView standingsTable = findViewById(R.id.standingsTable);
+        LinearLayout tableHeader = findViewById(R.id.tableHeader);
         Spinner gamedaySpinner = findViewById(R.id.gamedaySpinner);
 
         // File containing historical data
-        File csvFile = new File(getFilesDir(), "2015-2024_Bundesligadata.csv");
+        File csvFile = MatchRepository.getInstance(this).getDataFile();
 
         // Create an instance of DataSetUpdater
         DataSetUpdater dataSetUpdater = new DataSetUpdater();
 
-        // Update dataset and display Bundesliga table if successful
-        dataSetUpdater.updateDataset(this, success -> {
-            if (success && csvFile.exists()) {
-                runOnUiThread(() -> {
-                    TableManager tableManager = new TableManager(this, tableLayout, gamedaySpinner);
-                    tableManager.displayBundesligaTable(csvFile);
+        // Update dataset and display Bundesliga table if successful.
+        // UNCHANGED means the server answered 304, so the cached match store is rendered as is.
+        dataSetUpdater.updateDataset(this, result -> {
+            if (result != DataSetUpdater.UpdateResult.FAILED && csvFile.exists()) {
+                // Load the match table off the UI thread, then render it
+                MatchRepository repository = MatchRepository.getInstance(this);
+                dataLoader.load(repository::getTable, table -> {
+                    TableManager tableManager = new TableManager(this, standingsTable, tableHeader, gamedaySpinner);
+                    tableManager.displayBundesligaTable(table);
                 });
             } else {
                 Log.e("MainActivity", "Dataset update failed or file does not exist.");
@@ -66,5 +73,18 @@ public class MainActivity extends AppCompatActivity {
             Intent intentResults = new Intent(MainActivity.this, ResultsActivity.class);
             startActivity(intentResults);
         });
+
+        // Initialize and set click listener for season overview button
+        seasonOverviewButton = findViewById(R.id.seasonOverviewButton);
+        seasonOverviewButton.setOnClickListener(v -> {
+            Intent intentOverview = new Intent(MainActivity.this, SeasonOverviewActivity.class);
+            startActivity(intentOverview);
+        });
+    }
+
+    @Override
+    protected void onDestroy() {
+        dataLoader.cancelAll();
+        super.onDestroy();
     }
 }
\ No newline at end of file
@@ -0,0 +1,240 @@
+package com.example.myapplication;
+
+import android.content.Context;
+import android.util.Log;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.List;
+
+// Process-wide store for the historical match dataset.
+// The data is loaded once and shared by all activities. Cold starts read the binary
+// MatchSnapshot; the CSV is only parsed when the snapshot is missing or stale.
+// The CSV is only written through replaceDataset()/appendToDataset(), which replace it atomically
+// and bump the generation; caches compare getGeneration() instead of re-reading files.
+// The Elo ratings are persisted next to the dataset and only the appended rows are applied to them.
+public final class MatchRepository implements MatchSource {
+    // TAG for logging purposes
+    private static final String TAG = "MatchRepository";
+
+    // File name of the merged historical dataset in internal storage
+    public static final String HISTORICAL_DATA_FILE = "2015-2024_Bundesligadata.csv";
+
+    private static volatile MatchRepository instance;
+
+    // Location of the dataset file, its binary snapshot and the persisted ratings
+    private final File dataFile;
+    private final File snapshotFile;
+    private final File ratingsFile;
+
+    // Parsed matches, null until first access or after invalidate()
+    private MatchTable table;
+
+    // Ratings of all rows of the dataset, null until first access
+    private EloRatings ratings;
+
+    // Incremented whenever the dataset changes
+    private volatile long generation;
+
+    private MatchRepository(File dataFile, File snapshotFile, File ratingsFile) {
+        this.dataFile = dataFile;
+        this.snapshotFile = snapshotFile;
+        this.ratingsFile = ratingsFile;
+    }
+
+    // Returns the shared repository, bound to the application's files directory
+    public static MatchRepository getInstance(Context context) {
+        MatchRepository result = instance;
+        if (result == null) {
+            synchronized (MatchRepository.class) {
+                result = instance;
+                if (result == null) {
+                    File filesDir = context.getApplicationContext().getFilesDir();
+                    result = instance = new MatchRepository(new File(filesDir, HISTORICAL_DATA_FILE),
+                            new File(filesDir, MatchSnapshot.SNAPSHOT_FILE),
+                            new File(filesDir, EloRatings.RATINGS_FILE));
+                }
+            }
+        }
+        return result;
+    }
+
+    public File getDataFile() {
+        return dataFile;
+    }
+
+    // Returns all matches in file order, loading them on first access
+    @Override
+    public synchronized MatchTable getTable() {
+        if (table == null) {
+            table = load();
+        }
+        return table;
+    }
+
+    // Returns a copy of the Elo ratings after all matches of getTable()
+    @Override
+    public synchronized EloRatings getRatings() {
+        MatchTable current = getTable();
+        if (ratings == null) {
+            ratings = readRatings();
+        }
+        updateRatings(current);
+        return ratings.copy();
+    }
+
+    // Version of the dataset; changes whenever the CSV is rewritten or the data is invalidated
+    @Override
+    public long getGeneration() {
+        return generation;
+    }
+
+    // Drops the loaded data so that the next access re-reads it
+    public synchronized void invalidate() {
+        table = null;
+        generation++;
+    }
+
+    // Atomically replaces the whole CSV with the header and rows, then reloads the table
+    public synchronized void replaceDataset(String header, List<String> rows) throws IOException {
+        AtomicFiles.write(dataFile, out -> writeLines(out, header, rows));
+        rebuildSnapshot();
+    }
+
+    // Atomically appends rows to the CSV; the header is only written if the file does not exist yet.
+    // A file written with another column layout is first mapped onto the new header by column name,
+    // so the appended rows always line up with the header.
+    public synchronized void appendToDataset(String header, List<String> rows) throws IOException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        if (dataFile.exists() && !header.equals(readHeader(dataFile))) {
+            List<String> merged;
+            try (Reader reader = new InputStreamReader(new FileInputStream(dataFile), "UTF-8")) {
+                merged = MatchSchema.convert(reader);
+            }
+            Log.i(TAG, "Converting " + merged.size() + " rows to the current column layout");
+            merged.addAll(rows);
+            replaceDataset(header, merged);
+            return;
+        }
+        String headerIfNew = dataFile.exists() ? null : header;
+        AtomicFiles.append(dataFile, out -> writeLines(out, headerIfNew, rows));
+        rebuildSnapshot();
+    }
+
+    // Re-parses the CSV after it was written and regenerates the snapshot from it.
+    // The ratings are brought up to date, which only applies the rows after the old end of the file.
+    private void rebuildSnapshot() {
+        table = parseFile(dataFile);
+        writeSnapshot(table);
+        if (ratings == null) {
+            ratings = readRatings();
+        }
+        updateRatings(table);
+        generation++;
+    }
+
+    // Applies the rows the ratings do not contain yet and persists them if anything changed
+    private void updateRatings(MatchTable current) {
+        int applied = ratings.apply(current);
+        if (applied > 0) {
+            Log.d(TAG, "Applied " + applied + " matches to the ratings");
+            try {
+                ratings.write(ratingsFile);
+            } catch (IOException e) {
+                Log.e(TAG, "Error writing ratings", e);
+            }
+        }
+    }
+
+    // Persisted ratings, or empty ones if there are none; stale ratings are rebuilt by apply()
+    private EloRatings readRatings() {
+        try {
+            EloRatings persisted = EloRatings.read(ratingsFile);
+            if (persisted != null) {
+                return persisted;
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Ignoring unreadable ratings", e);
+        }
+        return new EloRatings();
+    }
+
+    private static String readHeader(File file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"))) {
+            String line = reader.readLine();
+            // A byte order mark is not part of the header
+            return line != null && line.startsWith("\uFEFF") ? line.substring(1) : line;
+        }
+    }
+
+    private static void writeLines(OutputStream out, String header, List<String> rows) throws IOException {
+        Writer writer = new OutputStreamWriter(out, "UTF-8");
+        if (header != null) {
+            writer.write(header);
+            writer.write('\n');
+        }
+        for (String row : rows) {
+            writer.write(row);
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    private MatchTable load() {
+        if (dataFile.exists()) {
+            try {
+                MatchTable snapshot = MatchSnapshot.read(snapshotFile, dataFile);
+                if (snapshot != null) {
+                    Log.d(TAG, "Loaded " + snapshot.size() + " matches from snapshot");
+                    return snapshot;
+                }
+            } catch (IOException e) {
+                Log.w(TAG, "Ignoring unreadable snapshot", e);
+            }
+        }
+
+        // No usable snapshot: parse the CSV once and store the result for the next start
+        MatchTable parsed = parseFile(dataFile);
+        if (!parsed.isEmpty()) {
+            writeSnapshot(parsed);
+        }
+        return parsed;
+    }
+
+    private void writeSnapshot(MatchTable parsed) {
+        try {
+            MatchSnapshot.write(parsed, snapshotFile, dataFile);
+        } catch (IOException e) {
+            Log.e(TAG, "Error writing snapshot", e);
+        }
+    }
+
+    private MatchTable parseFile(File dataFile) {
+        if (!dataFile.exists()) {
+            Log.e(TAG, "Historical data file does not exist: " + dataFile.getAbsolutePath());
+            return MatchTable.empty();
+        }
+
+        MatchCsv csv = new MatchCsv();
+        try {
+            MatchTable result = csv.read(dataFile);
+            if (csv.getSkippedRows() > 0) {
+                Log.e(TAG, "Skipped " + csv.getSkippedRows() + " unparsable lines, first: " + csv.getFirstError());
+            }
+            Log.d(TAG, "Loaded " + result.size() + " matches");
+            return result;
+        } catch (IOException e) {
+            Log.e(TAG, "Error reading historical data", e);
+            return MatchTable.empty();
+        }
+    }
+}
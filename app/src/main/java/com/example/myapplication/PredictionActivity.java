@@ -7,10 +7,11 @@ import android.widget.ArrayAdapter;
 import android.widget.Button;
 import android.widget.Spinner;
 import android.widget.AdapterView;
-import android.widget.TableLayout;
-import android.widget.TableRow;
+import android.widget.LinearLayout;
+import android.widget.ProgressBar;
 import android.widget.TextView;
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.recyclerview.widget.RecyclerView;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,10 +19,24 @@ import java.util.List;
 public class PredictionActivity extends AppCompatActivity {
     private Spinner gamedaySpinner;
     private static final String TAG = "PredictionActivity";
+
+    // Columns of the prediction table and their widths in dp
+    private static final String[] HEADERS = {"Date", "Home Team", "Away Team", "Home Win", "Draw", "Away Win",
+            "Avg Goals", "Over 1.5", "Over 2.5", "BTTS", "Likely Score", "Elo"};
+    private static final int[] COLUMN_WIDTHS = {90, 120, 120, 70, 60, 70, 70, 70, 70, 60, 80, 90};
+
     private PredictionEngine predictionEngine;
-    private TableLayout predictionTable;
+    private TableAdapter predictionTable;
     private TextView bestBetsContent;
     private Button backButtonP;
+    private ProgressBar loadingIndicator;
+
+    // Runs engine setup and predictions off the UI thread
+    private final DataLoader dataLoader = new DataLoader();
+
+    // Gameday whose predictions should be shown; older results that arrive late are dropped
+    private int requestedGameday;
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -29,9 +44,12 @@ public class PredictionActivity extends AppCompatActivity {
 
         // Initialize views
         gamedaySpinner = findViewById(R.id.gamedaySpinner);
-        predictionTable = findViewById(R.id.predictionTable);
+        RecyclerView predictionList = findViewById(R.id.predictionTable);
+        LinearLayout predictionHeader = findViewById(R.id.predictionHeader);
+        predictionTable = TableAdapter.attach(predictionList, predictionHeader, HEADERS, COLUMN_WIDTHS, false);
         bestBetsContent = findViewById(R.id.bestBetsContent);
         backButtonP = findViewById(R.id.backButtonP);
+        loadingIndicator = findViewById(R.id.loadingIndicator);
 
 
         // Set up back button
@@ -40,21 +58,29 @@ public class PredictionActivity extends AppCompatActivity {
         });
 
 
-        // Initialize PredictionEngine and load data
+        // Initialize PredictionEngine and load data in the background,
+        // then fill the spinner with the available gamedays
         setupPredictionEngine();
+    }
 
-        // Setup spinner with available gamedays
-        setupGamedaySpinner();
+    @Override
+    protected void onDestroy() {
+        dataLoader.cancelAll();
+        super.onDestroy();
     }
 
     private void setupPredictionEngine() {
-        predictionEngine = new PredictionEngine(getAssets());
-        predictionEngine.loadCurrentSeason();
-        predictionEngine.loadHistoricalData(this);
+        dataLoader.load(() -> new PredictionEngine(PredictionModelLoader.load(getApplicationContext())), engine -> {
+            predictionEngine = engine;
+            List<String> gamedays = engine.getAvailableGamedays(); // Calendar lookup, no I/O
+            if (gamedays.isEmpty()) {
+                loadingIndicator.setVisibility(View.GONE);
+            }
+            setupGamedaySpinner(gamedays);
+        });
     }
 
-    private void setupGamedaySpinner() {
-        List<String> gamedays = predictionEngine.getAvailableGamedays();
+    private void setupGamedaySpinner(List<String> gamedays) {
         ArrayAdapter<String> gamedayAdapter = new ArrayAdapter<>(
                 this,
                 android.R.layout.simple_spinner_item,
@@ -78,17 +104,46 @@ public class PredictionActivity extends AppCompatActivity {
     }
 
     private void updatePredictions(int gameday) {
-        List<FutureMatch> predictions = predictionEngine.calculatePredictions(gameday);
+        requestedGameday = gameday;
+        PredictionEngine engine = predictionEngine;
+
+        if (engine.getModel().isStale(MatchRepository.getInstance(this))) {
+            // The dataset was updated since the engine was built: load a fresh model, then retry
+            loadingIndicator.setVisibility(View.VISIBLE);
+            dataLoader.load(() -> new PredictionEngine(PredictionModelLoader.load(getApplicationContext())), fresh -> {
+                predictionEngine = fresh;
+                if (gameday == requestedGameday) {
+                    updatePredictions(gameday);
+                }
+            });
+            return;
+        }
 
-        // Update table as before
-        int childCount = predictionTable.getChildCount();
-        if (childCount > 1) {
-            predictionTable.removeViews(1, childCount - 1);
+        // Gamedays viewed before are served from the prediction cache without I/O or a background hop
+        List<FutureMatch> cached = engine.getCachedPredictions(gameday);
+        if (cached != null) {
+            showPredictions(cached);
+            return;
         }
 
+        // The engine is immutable, so overlapping requests can not interfere with each other
+        loadingIndicator.setVisibility(View.VISIBLE);
+        dataLoader.load(() -> engine.calculatePredictions(gameday), predictions -> {
+            if (gameday == requestedGameday) {
+                showPredictions(predictions);
+            }
+        });
+    }
+
+    private void showPredictions(List<FutureMatch> predictions) {
+        loadingIndicator.setVisibility(View.GONE);
+
+        // Rows are recycled, only cells that differ from the previous gameday are rebound
+        List<String[]> rows = new ArrayList<>(predictions.size());
         for (FutureMatch match : predictions) {
-            addMatchRow(match);
+            rows.add(matchRow(match));
         }
+        predictionTable.submitRows(rows);
 
         // Update best bets section
         updateBestBets(predictions);
@@ -131,29 +186,20 @@ public class PredictionActivity extends AppCompatActivity {
         bestBetsContent.setText(bestBets.toString());
     }
 
-    private void addMatchRow(FutureMatch match) {
-        TableRow row = new TableRow(this);
-
-        // Add all match data
-        row.addView(createTextView(match.date));
-        row.addView(createTextView(match.homeTeam));
-        row.addView(createTextView(match.awayTeam));
-        row.addView(createTextView(formatProbability(match.homeProbability)));
-        row.addView(createTextView(formatProbability(match.drawProbability)));
-        row.addView(createTextView(formatProbability(match.awayProbability)));
-        row.addView(createTextView(String.format("%.1f", match.totalAvgGoals)));
-        row.addView(createTextView(formatProbability(match.over15Probability)));
-        row.addView(createTextView(formatProbability(match.over25Probability)));
-
-        predictionTable.addView(row);
-    }
-
-    private TextView createTextView(String text) {
-        TextView textView = new TextView(this);
-        textView.setText(text);
-        textView.setPadding(8, 8, 8, 8);
-        textView.setTextAlignment(View.TEXT_ALIGNMENT_CENTER);
-        return textView;
+    private String[] matchRow(FutureMatch match) {
+        return new String[]{
+                match.date,
+                match.homeTeam,
+                match.awayTeam,
+                formatProbability(match.homeProbability),
+                formatProbability(match.drawProbability),
+                formatProbability(match.awayProbability),
+                String.format("%.1f", match.totalAvgGoals),
+                formatProbability(match.over15Probability),
+                formatProbability(match.over25Probability),
+                formatProbability(match.bothTeamsScoreProbability),
+                match.likelyHomeGoals + ":" + match.likelyAwayGoals,
+                String.format("%.0f:%.0f", match.homeRating, match.awayRating)};
     }
 
     private String formatProbability(double probability) {
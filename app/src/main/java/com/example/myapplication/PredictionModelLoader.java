@@ -0,0 +1,61 @@
+package com.example.myapplication;
+
+import android.content.Context;
+import android.util.Log;
+
+import java.io.IOException;
+
+// Builds PredictionModels from the bundled gameplan and the shared MatchRepository.
+// The Android side of the model: PredictionModel and its sources are pure Java.
+public final class PredictionModelLoader {
+    // TAG for logging purposes
+    private static final String TAG = "PredictionModelLoader";
+
+    // File name of the gameplan in the assets folder
+    public static final String GAMEPLAN_FILE = "gameplan_24_25.csv";
+
+    // Fallback if the gameplan can not be read
+    private static final String DEFAULT_SEASON = "2024/2025";
+
+    // Shared so that the asset is parsed once per process
+    private static volatile AssetFixtureSource fixtureSource;
+
+    // Latest loaded model; reused while the dataset is unchanged, so its cached predictions
+    // are shared by all activities
+    private static volatile PredictionModel latest;
+
+    private PredictionModelLoader() {
+    }
+
+    // Loads the gameplan and the shared match table; blocking, call off the UI thread
+    public static PredictionModel load(Context context) {
+        MatchRepository repository = MatchRepository.getInstance(context);
+        PredictionModel current = latest;
+        if (current != null && !current.isStale(repository)) {
+            return current;
+        }
+        try {
+            return latest = PredictionModel.load(getFixtureSource(context), repository);
+        } catch (IOException e) {
+            Log.e(TAG, "Error reading current season", e);
+        }
+        // The repository itself never throws, only the gameplan can be missing
+        long generation = repository.getGeneration();
+        return PredictionModel.of(FixtureCalendar.empty(DEFAULT_SEASON), repository.getTable(),
+                repository.getRatings(), generation);
+    }
+
+    private static AssetFixtureSource getFixtureSource(Context context) {
+        AssetFixtureSource result = fixtureSource;
+        if (result == null) {
+            synchronized (PredictionModelLoader.class) {
+                result = fixtureSource;
+                if (result == null) {
+                    result = fixtureSource = new AssetFixtureSource(
+                            context.getApplicationContext().getAssets(), GAMEPLAN_FILE);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.myapplication;
+
+import android.os.Bundle;
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.View;
+import android.widget.Button;
+import android.widget.LinearLayout;
+import android.widget.ProgressBar;
+import android.widget.TextView;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Shows the predictions of every remaining gameday of the current season in one table,
+// together with the final table odds of a Monte Carlo simulation of the rest of the season
+public class SeasonOverviewActivity extends AppCompatActivity {
+    private static final String TAG = "SeasonOverviewActivity";
+
+    // Number of simulated seasons; the odds are shown while they converge
+    private static final int SIMULATIONS = 100_000;
+
+    // Columns of the simulation table and their widths in dp
+    private static final String[] SIMULATION_HEADERS = {"Team", "Exp. Points", "Title", "Top 4", "Play-off", "Relegation"};
+    private static final int[] SIMULATION_WIDTHS = {130, 90, 70, 70, 70, 90};
+
+    // Columns of the predictions overview and their widths in dp
+    private static final String[] OVERVIEW_HEADERS = {"Gameday", "Date", "Home Team", "Away Team", "Home Win", "Draw", "Away Win", "Avg Goals"};
+    private static final int[] OVERVIEW_WIDTHS = {70, 90, 130, 130, 80, 70, 80, 80};
+
+    private TableAdapter overviewTable;
+    private TextView overviewSummary;
+    private TableAdapter simulationTable;
+    private TextView simulationSummary;
+    private ProgressBar loadingIndicator;
+
+    // Running simulation, cancelled when the activity is destroyed; only touched on the UI thread
+    private SeasonSimulator simulator;
+
+    // Loads the model and predicts the season off the UI thread
+    private final DataLoader dataLoader = new DataLoader();
+
+    // The simulation runs for seconds and starts its own worker threads, so it gets a thread of
+    // its own instead of blocking one of the shared DataLoader threads
+    private final ExecutorService simulationExecutor = Executors.newSingleThreadExecutor();
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_season_overview);
+
+        // Initialize views
+        RecyclerView overviewList = findViewById(R.id.overviewTable);
+        LinearLayout overviewHeader = findViewById(R.id.overviewHeader);
+        overviewTable = TableAdapter.attach(overviewList, overviewHeader, OVERVIEW_HEADERS, OVERVIEW_WIDTHS, false);
+        overviewSummary = findViewById(R.id.overviewSummary);
+        RecyclerView simulationList = findViewById(R.id.simulationTable);
+        LinearLayout simulationHeader = findViewById(R.id.simulationHeader);
+        simulationTable = TableAdapter.attach(simulationList, simulationHeader, SIMULATION_HEADERS, SIMULATION_WIDTHS, false);
+        simulationSummary = findViewById(R.id.simulationSummary);
+        loadingIndicator = findViewById(R.id.loadingIndicator);
+
+        // Set up back button
+        Button backButton = findViewById(R.id.backButtonS);
+        backButton.setOnClickListener(v -> finish());
+
+        // The model is loaded once and shared by the predictions and the simulation
+        dataLoader.load(() -> PredictionModelLoader.load(getApplicationContext()), model -> {
+            predictSeason(model);
+            simulateSeason(model);
+        });
+    }
+
+    @Override
+    protected void onDestroy() {
+        dataLoader.cancelAll();
+        if (simulator != null) simulator.cancel();
+        simulationExecutor.shutdown();
+        super.onDestroy();
+    }
+
+    private void predictSeason(PredictionModel model) {
+        dataLoader.load(() -> {
+            PredictionEngine engine = new PredictionEngine(model);
+            long start = SystemClock.elapsedRealtime();
+            SortedMap<Integer, List<FutureMatch>> season = engine.calculateRemainingSeason();
+            Log.d(TAG, "Predicted " + season.size() + " gamedays in " + (SystemClock.elapsedRealtime() - start) + " ms");
+            return season;
+        }, this::showSeason);
+    }
+
+    private void simulateSeason(PredictionModel model) {
+        simulationSummary.setText("Simulating the remaining season...");
+        // Created before the task is submitted, so onDestroy() can always cancel it
+        SeasonSimulator seasonSimulator = new SeasonSimulator(model);
+        simulator = seasonSimulator;
+        simulationExecutor.execute(() -> {
+            long start = SystemClock.elapsedRealtime();
+            try {
+                // Intermediate results are posted to the UI while the odds converge
+                SeasonSimulator.Result result = seasonSimulator.run(SIMULATIONS,
+                        Runtime.getRuntime().availableProcessors(), System.nanoTime(),
+                        partial -> runOnUiThread(() -> showSimulation(partial, false)));
+                Log.d(TAG, "Simulated " + result.getSimulations() + " seasons in "
+                        + (SystemClock.elapsedRealtime() - start) + " ms");
+                runOnUiThread(() -> showSimulation(result, true));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                Log.e(TAG, "Simulation failed", e);
+            }
+        });
+    }
+
+    private void showSeason(SortedMap<Integer, List<FutureMatch>> season) {
+        loadingIndicator.setVisibility(View.GONE);
+
+        // Only the rows on screen get views
+        List<String[]> rows = new ArrayList<>();
+        for (Map.Entry<Integer, List<FutureMatch>> gameday : season.entrySet()) {
+            for (FutureMatch match : gameday.getValue()) {
+                rows.add(matchRow(gameday.getKey(), match));
+            }
+        }
+        overviewTable.submitRows(rows);
+        int fixtures = rows.size();
+
+        if (season.isEmpty()) {
+            overviewSummary.setText("No remaining gamedays.");
+        } else {
+            overviewSummary.setText(String.format("%d remaining gamedays, %d matches", season.size(), fixtures));
+        }
+    }
+
+    private void showSimulation(SeasonSimulator.Result result, boolean finished) {
+        if (isDestroyed()) return;
+
+        // Intermediate results mostly change a few percentages, so most cells are left untouched
+        List<String[]> rows = new ArrayList<>();
+        for (int team : result.teamsByExpectedPlace()) {
+            rows.add(new String[]{
+                    result.getTeam(team),
+                    String.format("%.1f", result.expectedPoints(team)),
+                    formatProbability(result.titleProbability(team)),
+                    formatProbability(result.championsLeagueProbability(team)),
+                    formatProbability(result.playoffProbability(team)),
+                    formatProbability(result.relegationProbability(team))});
+        }
+        simulationTable.submitRows(rows);
+
+        simulationSummary.setText(String.format("%s %d simulated seasons (±%.1f%%)",
+                finished ? "Final table odds from" : "Simulating...", result.getSimulations(),
+                result.maxStandardError() * 100));
+    }
+
+    private String[] matchRow(int gameday, FutureMatch match) {
+        return new String[]{
+                String.valueOf(gameday),
+                match.date,
+                match.homeTeam,
+                match.awayTeam,
+                formatProbability(match.homeProbability),
+                formatProbability(match.drawProbability),
+                formatProbability(match.awayProbability),
+                String.format("%.1f", match.totalAvgGoals)};
+    }
+
+    private String formatProbability(double probability) {
+        return String.format("%.1f%%", probability * 100);
+    }
+}
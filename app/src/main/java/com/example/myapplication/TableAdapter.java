@@ -0,0 +1,145 @@
+package com.example.myapplication;
+
+import android.content.Context;
+import android.graphics.Typeface;
+import android.view.Gravity;
+import android.view.ViewGroup;
+import android.widget.LinearLayout;
+import android.widget.TextView;
+
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Text table on a RecyclerView, used for every table that changes with a spinner selection.
+// Rows are identified by their position, so showing another gameday turns into content changes
+// of the existing rows: DiffUtil compares the rows off the UI thread, changed rows are rebound in
+// place and only cells whose text differs are set. Once every row was shown, no views are created.
+public final class TableAdapter extends ListAdapter<TableAdapter.Row, TableAdapter.RowHolder> {
+
+    // Cell texts of the row at a position of the table
+    static final class Row {
+        final int position;
+        final String[] cells;
+
+        Row(int position, String[] cells) {
+            this.position = position;
+            this.cells = cells;
+        }
+    }
+
+    static final DiffUtil.ItemCallback<Row> DIFF = new DiffUtil.ItemCallback<Row>() {
+        @Override
+        public boolean areItemsTheSame(Row oldRow, Row newRow) {
+            return oldRow.position == newRow.position;
+        }
+
+        @Override
+        public boolean areContentsTheSame(Row oldRow, Row newRow) {
+            return Arrays.equals(oldRow.cells, newRow.cells);
+        }
+
+        @Override
+        public Object getChangePayload(Row oldRow, Row newRow) {
+            // Any payload makes RecyclerView rebind the same holder instead of cross-fading a second one
+            return newRow;
+        }
+    };
+
+    static final class RowHolder extends RecyclerView.ViewHolder {
+        final TextView[] cells;
+
+        RowHolder(LinearLayout row, TextView[] cells) {
+            super(row);
+            this.cells = cells;
+        }
+    }
+
+    private final int[] widths;        // Pixels, or weights if the columns are stretched
+    private final boolean stretchColumns;
+    private final int padding;
+
+    private TableAdapter(int[] widths, boolean stretchColumns, int padding) {
+        super(DIFF);
+        this.widths = widths;
+        this.stretchColumns = stretchColumns;
+        this.padding = padding;
+    }
+
+    // Sets up the list and fills the header row. Column widths are in dp; with stretchColumns they
+    // are relative weights and the table fills its width, like TableLayout's stretchColumns="*".
+    public static TableAdapter attach(RecyclerView list, LinearLayout header, String[] titles,
+                                      int[] columnWidths, boolean stretchColumns) {
+        float density = list.getResources().getDisplayMetrics().density;
+        int[] widths = new int[columnWidths.length];
+        for (int column = 0; column < widths.length; column++) {
+            widths[column] = stretchColumns ? columnWidths[column] : Math.round(columnWidths[column] * density);
+        }
+        TableAdapter adapter = new TableAdapter(widths, stretchColumns, Math.round(4 * density));
+
+        // The header is built once and not part of the recycled rows
+        header.removeAllViews();
+        for (int column = 0; column < titles.length; column++) {
+            TextView title = adapter.createCell(header.getContext(), column);
+            title.setText(titles[column]);
+            title.setTypeface(null, Typeface.BOLD);
+            header.addView(title);
+        }
+
+        list.setLayoutManager(new LinearLayoutManager(list.getContext()));
+        list.setAdapter(adapter);
+        return adapter;
+    }
+
+    // Replaces the rows; each row holds the cell texts in column order
+    public void submitRows(List<String[]> rows) {
+        List<Row> items = new ArrayList<>(rows.size());
+        for (int position = 0; position < rows.size(); position++) {
+            items.add(new Row(position, rows.get(position)));
+        }
+        submitList(items);
+    }
+
+    @Override
+    public RowHolder onCreateViewHolder(ViewGroup parent, int viewType) {
+        LinearLayout row = new LinearLayout(parent.getContext());
+        row.setOrientation(LinearLayout.HORIZONTAL);
+        row.setLayoutParams(new ViewGroup.LayoutParams(
+                stretchColumns ? ViewGroup.LayoutParams.MATCH_PARENT : ViewGroup.LayoutParams.WRAP_CONTENT,
+                ViewGroup.LayoutParams.WRAP_CONTENT));
+
+        TextView[] cells = new TextView[widths.length];
+        for (int column = 0; column < cells.length; column++) {
+            cells[column] = createCell(parent.getContext(), column);
+            row.addView(cells[column]);
+        }
+        return new RowHolder(row, cells);
+    }
+
+    @Override
+    public void onBindViewHolder(RowHolder holder, int position) {
+        String[] cells = getItem(position).cells;
+        for (int column = 0; column < holder.cells.length; column++) {
+            String text = column < cells.length ? cells[column] : "";
+            // setText requests a layout pass even for equal text, so unchanged cells are skipped
+            if (!text.contentEquals(holder.cells[column].getText())) {
+                holder.cells[column].setText(text);
+            }
+        }
+    }
+
+    private TextView createCell(Context context, int column) {
+        TextView cell = new TextView(context);
+        cell.setLayoutParams(stretchColumns
+                ? new LinearLayout.LayoutParams(0, ViewGroup.LayoutParams.WRAP_CONTENT, widths[column])
+                : new LinearLayout.LayoutParams(widths[column], ViewGroup.LayoutParams.WRAP_CONTENT));
+        cell.setPadding(padding, padding, padding, padding);
+        cell.setGravity(Gravity.CENTER);
+        return cell;
+    }
+}
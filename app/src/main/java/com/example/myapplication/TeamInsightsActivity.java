@@ -5,34 +5,44 @@ import android.view.View;
 import android.widget.AdapterView;
 import android.widget.ArrayAdapter;
 import android.widget.Button;
+import android.widget.LinearLayout;
+import android.widget.ProgressBar;
 import android.widget.Spinner;
-import android.widget.TableLayout;
-import android.widget.TableRow;
 import android.widget.TextView;
 
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.recyclerview.widget.RecyclerView;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 
 public class TeamInsightsActivity extends AppCompatActivity {
 
+    // Columns of the last games table and their relative widths
+    private static final String[] LAST_GAMES_HEADERS = {"Gameday", "Opponent", "Result"};
+    private static final int[] LAST_GAMES_WEIGHTS = {2, 4, 2};
+
+    // Number of games in the last games table
+    private static final int LAST_GAMES = 5;
+
     private Spinner teamSpinner;
     private TextView teamStatsTextView;
     private TextView stats2024TextView;
-    private TableLayout lastGamesTable;
+    private TableAdapter lastGamesTable;
+    private TextView pastGamesHeader;
+    private ProgressBar loadingIndicator;
+
+    // Loads team info and matches off the UI thread
+    private final DataLoader dataLoader = new DataLoader();
 
     private JSONArray bundesligaTeams;
-    private List<MatchData> allMatches;
+    private MatchTable allMatches;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -48,23 +58,42 @@ public class TeamInsightsActivity extends AppCompatActivity {
         teamSpinner = findViewById(R.id.teamSpinner);
         teamStatsTextView = findViewById(R.id.teamStatsTextView);
         stats2024TextView = findViewById(R.id.stats2024TextView);
-        lastGamesTable = findViewById(R.id.lastGamesTable);
-
-        // Load JSON data for team stats
-        String jsonData = loadJSONFromAssets();
-        try {
-            JSONObject jsonObject = new JSONObject(jsonData);
-            bundesligaTeams = jsonObject.getJSONArray("BundesligaTeams");
-        } catch (Exception e) {
+        pastGamesHeader = findViewById(R.id.pastGamesHeader);
+        RecyclerView lastGamesList = findViewById(R.id.lastGamesTable);
+        LinearLayout lastGamesHeader = findViewById(R.id.lastGamesHeader);
+        lastGamesTable = TableAdapter.attach(lastGamesList, lastGamesHeader, LAST_GAMES_HEADERS, LAST_GAMES_WEIGHTS, true);
+        loadingIndicator = findViewById(R.id.loadingIndicator);
+
+        // Load JSON data for team stats; refresh the selected team once it arrives
+        dataLoader.load(() -> new JSONObject(loadJSONFromAssets()).getJSONArray("BundesligaTeams"), teams -> {
+            bundesligaTeams = teams;
+            String selectedTeam = (String) teamSpinner.getSelectedItem();
+            if (selectedTeam != null) {
+                displayTeamStats(selectedTeam);
+            }
+        }, e -> {
             e.printStackTrace();
-        }
+            bundesligaTeams = new JSONArray(); // Show "no stats" instead of waiting forever
+        });
 
-        // Load matches from CSV
-        File csvFile = new File(getFilesDir(), "2015-2024_Bundesligadata.csv");
-        allMatches = parseCSV(csvFile);
+        // Load matches from the shared match repository
+        MatchRepository repository = MatchRepository.getInstance(this);
+        dataLoader.load(repository::getTable, table -> {
+            loadingIndicator.setVisibility(View.GONE);
+            allMatches = table;
+            setupTeamSpinner();
+        });
+    }
+
+    @Override
+    protected void onDestroy() {
+        dataLoader.cancelAll();
+        super.onDestroy();
+    }
 
+    private void setupTeamSpinner() {
         // Populate spinner with team names
-        List<String> teamNames = getTeamNames(allMatches);
+        List<String> teamNames = allMatches.getNavigation().teamNames(); // Sorted at load time
         ArrayAdapter<String> adapter = new ArrayAdapter<>(this, android.R.layout.simple_spinner_item, teamNames);
         adapter.setDropDownViewResource(android.R.layout.simple_spinner_dropdown_item);
         teamSpinner.setAdapter(adapter);
@@ -83,7 +112,7 @@ public class TeamInsightsActivity extends AppCompatActivity {
             public void onNothingSelected(AdapterView<?> parent) {
                 teamStatsTextView.setText("Select a team to view stats.");
                 stats2024TextView.setText("Season stats will appear here.");
-                lastGamesTable.removeAllViews();
+                lastGamesTable.submitRows(Collections.emptyList());
             }
         });
     }
@@ -105,57 +134,11 @@ public class TeamInsightsActivity extends AppCompatActivity {
         return json.toString();
     }
 
-    private List<MatchData> parseCSV(File csvFile) {
-        List<MatchData> matches = new ArrayList<>();
-        try (BufferedReader reader = new BufferedReader(new FileReader(csvFile))) {
-            String line;
-            boolean isHeader = true;
-
-            while ((line = reader.readLine()) != null) {
-                if (isHeader) {
-                    isHeader = false;
-                    continue; // Skip header
-                }
-
-                String[] columns = line.split(",");
-                if (columns.length < 15) continue;
-
-                try {
-                    String season = columns[0];
-                    int gameday = Integer.parseInt(columns[1]);
-                    String homeTeam = columns[4];
-                    String awayTeam = columns[5];
-                    int homeGoals = Integer.parseInt(columns[6].trim());
-                    int awayGoals = Integer.parseInt(columns[7].trim());
-                    String shotsOnTarget = columns[10]; // Adjust this column index if necessary
-
-                    MatchData match = new MatchData(season, gameday, homeTeam, awayTeam, homeGoals, awayGoals, shotsOnTarget);
-                    matches.add(match);
-                } catch (NumberFormatException e) {
-                    e.printStackTrace();
-                }
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return matches;
-    }
-
-    private List<String> getTeamNames(List<MatchData> matches) {
-        List<String> teamNames = new ArrayList<>();
-        for (MatchData match : matches) {
-            if (!teamNames.contains(match.homeTeam)) {
-                teamNames.add(match.homeTeam);
-            }
-            if (!teamNames.contains(match.awayTeam)) {
-                teamNames.add(match.awayTeam);
-            }
-        }
-        Collections.sort(teamNames);
-        return teamNames;
-    }
-
     private void displayTeamStats(String team) {
+        if (bundesligaTeams == null) {
+            teamStatsTextView.setText("Loading team stats...");
+            return;
+        }
         try {
             for (int i = 0; i < bundesligaTeams.length(); i++) {
                 JSONObject teamObject = bundesligaTeams.getJSONObject(i);
@@ -177,41 +160,31 @@ public class TeamInsightsActivity extends AppCompatActivity {
 
     private void displayStats2024(String team) {
         try {
-            String currentSeason = getLatestSeason(allMatches);
-            List<MatchData> teamMatches = new ArrayList<>();
-            for (MatchData match : allMatches) {
-                if (match.season.equals(currentSeason) &&
-                        (match.homeTeam.equals(team) || match.awayTeam.equals(team))) {
-                    teamMatches.add(match);
-                }
-            }
-
-            int totalGoals = 0, totalConceded = 0, totalShotsOnTarget = 0, highestWin = 0;
-            int matchesPlayed = teamMatches.size();
+            int teamId = allMatches.getTeams().idOf(team);
+            int currentSeason = allMatches.isEmpty()
+                    ? TeamDictionary.UNKNOWN : allMatches.getSeason(allMatches.size() - 1);
 
-            for (MatchData match : teamMatches) {
-                int goals = match.homeTeam.equals(team) ? match.homeGoals : match.awayGoals;
-                int conceded = match.homeTeam.equals(team) ? match.awayGoals : match.homeGoals;
+            // Only the team's matches of the season are read from its timeline
+            TeamTimeline.Summary season = allMatches.getTimeline().seasonSummary(teamId, currentSeason);
+            int matchesPlayed = season.games;
 
-                totalGoals += goals;
-                totalConceded += conceded;
-
-                int shotsOnTarget = Integer.parseInt(match.shotsOnTarget);
-                totalShotsOnTarget += shotsOnTarget;
-
-                int goalDifference = goals - conceded;
-                if (goalDifference > highestWin) {
-                    highestWin = goalDifference;
-                }
-            }
-
-            double averageGoals = matchesPlayed > 0 ? (double) totalGoals / matchesPlayed : 0;
-            double averageConceded = matchesPlayed > 0 ? (double) totalConceded / matchesPlayed : 0;
-            double averageShotsOnTarget = matchesPlayed > 0 ? (double) totalShotsOnTarget / matchesPlayed : 0;
+            double averageGoals = matchesPlayed > 0 ? (double) season.goalsFor / matchesPlayed : 0;
+            double averageConceded = matchesPlayed > 0 ? (double) season.goalsAgainst / matchesPlayed : 0;
 
+            // Match statistics come from the precomputed per-season totals and rolling sums
+            StatsCube cube = allMatches.getStats();
             String stats = String.format(
-                    "Average Goals: %.2f\nAverage Conceded Goals: %.2f\nAverage Shots on Target: %.2f\nHighest Win: %d",
-                    averageGoals, averageConceded, averageShotsOnTarget, highestWin
+                    "Average Goals: %.2f\nAverage Conceded Goals: %.2f\nAverage Shots: %.2f\n"
+                            + "Average Shots on Target: %.2f (last %d: %.2f)\nAverage Corners: %.2f\n"
+                            + "Average Fouls: %.2f\nAverage Yellow Cards: %.2f\nHighest Win: %d",
+                    averageGoals, averageConceded,
+                    cube.average(currentSeason, teamId, StatsCube.SHOTS, StatsCube.FOR),
+                    cube.average(currentSeason, teamId, StatsCube.SHOTS_ON_TARGET, StatsCube.FOR),
+                    LAST_GAMES, cube.recentAverage(teamId, LAST_GAMES, StatsCube.SHOTS_ON_TARGET, StatsCube.FOR),
+                    cube.average(currentSeason, teamId, StatsCube.CORNERS, StatsCube.FOR),
+                    cube.average(currentSeason, teamId, StatsCube.FOULS, StatsCube.FOR),
+                    cube.average(currentSeason, teamId, StatsCube.YELLOW_CARDS, StatsCube.FOR),
+                    season.biggestWin
             );
             stats2024TextView.setText(stats);
         } catch (Exception e) {
@@ -221,68 +194,22 @@ public class TeamInsightsActivity extends AppCompatActivity {
     }
 
     private void displayLastFiveGames(String team) {
-        List<MatchData> teamMatches = new ArrayList<>();
-        for (MatchData match : allMatches) {
-            if (match.homeTeam.equals(team) || match.awayTeam.equals(team)) {
-                teamMatches.add(match);
-            }
-        }
-
-        teamMatches.sort(Comparator.comparingInt((MatchData m) -> m.gameday).reversed());
-        List<MatchData> lastFiveGames = teamMatches.subList(0, Math.min(5, teamMatches.size()));
-
-        lastGamesTable.removeAllViews();
-
-        TableRow headerRow = new TableRow(this);
-        String[] headers = {"Gameday", "Opponent", "Result"};
-        for (String header : headers) {
-            TextView textView = new TextView(this);
-            textView.setText(header);
-            headerRow.addView(textView);
-        }
-        lastGamesTable.addView(headerRow);
-
-        for (MatchData match : lastFiveGames) {
-            TableRow row = new TableRow(this);
-            String opponent = match.homeTeam.equals(team) ? match.awayTeam : match.homeTeam;
-            String result = match.homeTeam.equals(team)
-                    ? match.homeGoals + " - " + match.awayGoals
-                    : match.awayGoals + " - " + match.homeGoals;
-
-            row.addView(createTextView(String.valueOf(match.gameday)));
-            row.addView(createTextView(opponent));
-            row.addView(createTextView(result));
-
-            lastGamesTable.addView(row);
-        }
-    }
-
-    private String getLatestSeason(List<MatchData> matches) {
-        return matches.stream()
-                .map(match -> match.season)
-                .reduce((first, second) -> second)
-                .orElse("2024");
-    }
-
-    private TextView createTextView(String text) {
-        TextView textView = new TextView(this);
-        textView.setText(text);
-        return textView;
-    }
-
-    private static class MatchData {
-        String season;
-        int gameday, homeGoals, awayGoals;
-        String homeTeam, awayTeam, shotsOnTarget;
-
-        MatchData(String season, int gameday, String homeTeam, String awayTeam, int homeGoals, int awayGoals, String shotsOnTarget) {
-            this.season = season;
-            this.gameday = gameday;
-            this.homeTeam = homeTeam;
-            this.awayTeam = awayTeam;
-            this.homeGoals = homeGoals;
-            this.awayGoals = awayGoals;
-            this.shotsOnTarget = shotsOnTarget;
+        int teamId = allMatches.getTeams().idOf(team);
+        TeamTimeline timeline = allMatches.getTimeline();
+        int[] timelineRows = timeline.rows();
+
+        // The last five entries of the team's timeline, latest first; the rows are reused
+        // when another team is selected
+        List<String[]> rows = new ArrayList<>(LAST_GAMES);
+        int first = timeline.lastGamesStart(teamId, LAST_GAMES);
+        for (int position = timeline.end(teamId) - 1; position >= first; position--) {
+            int i = timelineRows[position];
+            boolean isHome = allMatches.getHomeTeam(i) == teamId;
+            String opponent = allMatches.getTeams().nameOf(isHome ? allMatches.getAwayTeam(i) : allMatches.getHomeTeam(i));
+            String result = timeline.goalsFor(teamId, i) + " - " + timeline.goalsAgainst(teamId, i);
+            rows.add(new String[]{String.valueOf(allMatches.getGameday(i)), opponent, result});
         }
+        lastGamesTable.submitRows(rows);
+        pastGamesHeader.setText("Past " + LAST_GAMES + " Games (Form: " + timeline.form(teamId, LAST_GAMES) + ")");
     }
 }
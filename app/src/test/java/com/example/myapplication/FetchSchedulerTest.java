@@ -0,0 +1,129 @@
+package com.example.myapplication;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs FetchScheduler and SeasonNormalizer against a local MockWebServer.
+ */
+public class FetchSchedulerTest {
+    private static final String SEASON_CSV =
+            "Div,Date,Time,HomeTeam,AwayTeam,FTHG,FTAG\n" +
+            "D1,23/08/2024,19:30,M'gladbach,Leverkusen,2,3\n" +
+            "D1,24/08/2024,14:30,Mainz,Union Berlin,1,1\n";
+
+    private MockWebServer server;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void fetchAll_downloadsInParallelAndKeepsInputOrder() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setBody(SEASON_CSV).setBodyDelay(300, TimeUnit.MILLISECONDS);
+            }
+        });
+
+        List<String> urls = new ArrayList<>();
+        for (String code : new String[] {"2122", "2223", "2324", "2425"}) {
+            urls.add(server.url("/mmz4281/" + code + "/D1.csv").toString());
+        }
+
+        FetchScheduler scheduler = new FetchScheduler(new OkHttpClient(), 4, 1, 0);
+        long start = System.nanoTime();
+        List<FetchScheduler.Result<SeasonNormalizer.Season>> results = scheduler.fetchAll(urls,
+                (url, body) -> SeasonNormalizer.normalize(SeasonNormalizer.seasonForUrl(url), body));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(4, results.size());
+        assertTrue("downloads did not overlap: " + elapsedMillis + " ms", elapsedMillis < 1000);
+        assertEquals("2021/2022", results.get(0).value.season);
+        assertEquals("2024/2025", results.get(3).value.season);
+        assertEquals(MatchSchema.HEADER, results.get(3).value.header);
+        // Columns missing in the file stay empty
+        assertEquals("2024/2025,1,23/08/2024,M'gladbach,Leverkusen,2,3,,,,,,,,,,,,,,",
+                results.get(3).value.rows.get(0));
+    }
+
+    @Test
+    public void fetch_retriesServerErrorsWithBackoff() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setBody(SEASON_CSV));
+
+        FetchScheduler scheduler = new FetchScheduler(new OkHttpClient(), 1, 3, 10);
+        FetchScheduler.Result<SeasonNormalizer.Season> result = scheduler.fetch(
+                server.url("/mmz4281/2425/D1.csv").toString(),
+                (url, body) -> SeasonNormalizer.normalize("2024/2025", body));
+
+        assertTrue(result.isSuccess());
+        assertEquals(2, result.value.rows.size());
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    public void fetch_doesNotRetryClientErrors() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(404));
+        server.enqueue(new MockResponse().setBody(SEASON_CSV));
+
+        FetchScheduler scheduler = new FetchScheduler(new OkHttpClient(), 1, 3, 10);
+        FetchScheduler.Result<SeasonNormalizer.Season> result = scheduler.fetch(
+                server.url("/mmz4281/2425/D1.csv").toString(),
+                (url, body) -> SeasonNormalizer.normalize("2024/2025", body));
+
+        assertFalse(result.isSuccess());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void fetch_sendsValidatorsAndReportsNotModified() throws Exception {
+        server.enqueue(new MockResponse().setBody(SEASON_CSV)
+                .setHeader("ETag", "\"v1\"")
+                .setHeader("Last-Modified", "Sat, 24 Aug 2024 18:00:00 GMT"));
+        server.enqueue(new MockResponse().setResponseCode(304));
+
+        FetchScheduler scheduler = new FetchScheduler(new OkHttpClient(), 1, 3, 10);
+        String url = server.url("/mmz4281/2425/D1.csv").toString();
+        FetchScheduler.Result<SeasonNormalizer.Season> first = scheduler.fetch(url,
+                (u, body) -> SeasonNormalizer.normalize("2024/2025", body));
+        FetchScheduler.Result<SeasonNormalizer.Season> second = scheduler.fetch(url, first.validators,
+                (u, body) -> {
+                    throw new AssertionError("body of a 304 must not be parsed");
+                });
+
+        assertFalse(first.notModified);
+        assertEquals("\"v1\"", first.validators.etag);
+        assertTrue(second.isSuccess());
+        assertTrue(second.notModified);
+        assertNull(second.value);
+
+        assertNull(server.takeRequest().getHeader("If-None-Match"));
+        RecordedRequest conditional = server.takeRequest();
+        assertEquals("\"v1\"", conditional.getHeader("If-None-Match"));
+        assertEquals("Sat, 24 Aug 2024 18:00:00 GMT", conditional.getHeader("If-Modified-Since"));
+    }
+}
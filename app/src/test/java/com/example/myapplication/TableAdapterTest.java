@@ -0,0 +1,108 @@
+package com.example.myapplication;
+
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListUpdateCallback;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that replacing the rows of a TableAdapter turns into in-place updates of the changed rows.
+ */
+public class TableAdapterTest {
+
+    private static List<TableAdapter.Row> rows(String[]... cells) {
+        List<TableAdapter.Row> rows = new ArrayList<>();
+        for (int position = 0; position < cells.length; position++) {
+            rows.add(new TableAdapter.Row(position, cells[position]));
+        }
+        return rows;
+    }
+
+    // Same comparison as ListAdapter runs in the background, using the adapter's item callback
+    private static List<String> diff(List<TableAdapter.Row> oldRows, List<TableAdapter.Row> newRows) {
+        DiffUtil.DiffResult result = DiffUtil.calculateDiff(new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return oldRows.size();
+            }
+
+            @Override
+            public int getNewListSize() {
+                return newRows.size();
+            }
+
+            @Override
+            public boolean areItemsTheSame(int oldPosition, int newPosition) {
+                return TableAdapter.DIFF.areItemsTheSame(oldRows.get(oldPosition), newRows.get(newPosition));
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldPosition, int newPosition) {
+                return TableAdapter.DIFF.areContentsTheSame(oldRows.get(oldPosition), newRows.get(newPosition));
+            }
+
+            @Override
+            public Object getChangePayload(int oldPosition, int newPosition) {
+                return TableAdapter.DIFF.getChangePayload(oldRows.get(oldPosition), newRows.get(newPosition));
+            }
+        });
+
+        List<String> updates = new ArrayList<>();
+        result.dispatchUpdatesTo(new ListUpdateCallback() {
+            @Override
+            public void onInserted(int position, int count) {
+                updates.add("insert " + position + "+" + count);
+            }
+
+            @Override
+            public void onRemoved(int position, int count) {
+                updates.add("remove " + position + "+" + count);
+            }
+
+            @Override
+            public void onMoved(int fromPosition, int toPosition) {
+                updates.add("move " + fromPosition + ">" + toPosition);
+            }
+
+            @Override
+            public void onChanged(int position, int count, Object payload) {
+                updates.add("change " + position + "+" + count + (payload != null ? " in place" : ""));
+            }
+        });
+        updates.sort(null);
+        return updates;
+    }
+
+    @Test
+    public void diff_rebindsOnlyChangedRowsInPlace() {
+        List<TableAdapter.Row> gameday1 = rows(
+                new String[]{"1", "Bayern", "3"},
+                new String[]{"2", "Dortmund", "1"},
+                new String[]{"3", "Bremen", "0"});
+        List<TableAdapter.Row> gameday2 = rows(
+                new String[]{"1", "Bayern", "6"},
+                new String[]{"2", "Dortmund", "1"},
+                new String[]{"3", "Leipzig", "3"},
+                new String[]{"4", "Bremen", "0"});
+
+        List<String> updates = diff(gameday1, gameday2);
+
+        assertEquals(3, updates.size());
+        assertTrue(updates.contains("change 0+1 in place"));
+        assertTrue(updates.contains("change 2+1 in place"));
+        assertTrue(updates.contains("insert 3+1"));
+    }
+
+    @Test
+    public void diff_reportsNothingForEqualRows() {
+        List<TableAdapter.Row> before = rows(new String[]{"1", "Bayern", "3"});
+        List<TableAdapter.Row> after = rows(new String[]{"1", "Bayern", "3"});
+
+        assertTrue(diff(before, after).isEmpty());
+    }
+}
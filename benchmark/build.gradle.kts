@@ -0,0 +1,28 @@
+// JMH benchmarks of the :core hot paths on synthetic datasets.
+// Run with ./gradlew :benchmark:jmh (optionally -PjmhInclude=<regex>); results are written
+// to build/results/jmh/results.json with ops/s and, from the GC profiler, B/op.
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_1_8
+    targetCompatibility = JavaVersion.VERSION_1_8
+}
+
+dependencies {
+    implementation(project(":core"))
+    implementation(testFixtures(project(":core")))
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    findProperty("jmhInclude")?.let { includes.add(it.toString()) }
+}
@@ -0,0 +1,55 @@
+package com.example.myapplication;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Aggregations over the whole match store: building the table with its index and prefix sums,
+// the league table of one gameday, fitting the goal model and replaying the Elo ratings
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AggregationBenchmark {
+    @Param({"10", "50", "100"})
+    public int seasons;
+
+    @Param({"1", "4"})
+    public int leagues;
+
+    private MatchTable table;
+    private int latestSeason;
+
+    @Setup
+    public void setUp() {
+        table = SyntheticData.table(seasons, leagues, SyntheticData.GAMEDAYS);
+        latestSeason = table.seasons.idOf(SyntheticData.seasonName(SyntheticData.FIRST_YEAR + seasons - 1, 0));
+    }
+
+    @Benchmark
+    public MatchTable buildTable() {
+        return SyntheticData.table(seasons, leagues, SyntheticData.GAMEDAYS);
+    }
+
+    @Benchmark
+    public List<Standings.Entry> standings() {
+        return Standings.calculate(table, latestSeason, SyntheticData.GAMEDAYS / 2);
+    }
+
+    @Benchmark
+    public GoalModel fitGoalModel() {
+        return GoalModel.fit(table);
+    }
+
+    @Benchmark
+    public EloRatings replayRatings() {
+        return EloRatings.fromTable(table);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.myapplication;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Cost of the walk-forward Backtest: every gameday after the first season is predicted from a
+// fresh model of the data before it. Only model building and prediction are measured; the
+// training tables are prepared in the setup. The accuracy of the same replay is checked by
+// BacktestTest in :core.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BacktestBenchmark {
+    @Param({"3", "10"})
+    public int seasons;
+
+    private List<Backtest.Gameday> gamedays;
+
+    @Setup
+    public void setUp() throws IOException {
+        gamedays = Backtest.gamedays(SyntheticData.table(seasons, 1, SyntheticData.GAMEDAYS), 1);
+    }
+
+    @Benchmark
+    public void replay(Blackhole blackhole) {
+        for (Backtest.Gameday gameday : gamedays) {
+            blackhole.consume(gameday.predict());
+        }
+    }
+}
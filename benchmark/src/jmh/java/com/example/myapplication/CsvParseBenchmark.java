@@ -0,0 +1,47 @@
+package com.example.myapplication;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+// Parse paths of the dataset: decoding the merged CSV into a MatchTable (cold start without
+// snapshot) and normalizing one downloaded season file
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CsvParseBenchmark {
+    @Param({"10", "100"})
+    public int seasons;
+
+    @Param({"1", "4"})
+    public int leagues;
+
+    private String mergedCsv;
+    private String seasonFile;
+
+    @Setup
+    public void setUp() {
+        mergedCsv = SyntheticData.mergedCsv(seasons, leagues);
+        seasonFile = SyntheticData.seasonFile();
+    }
+
+    @Benchmark
+    public MatchTable parseMergedDataset() throws IOException {
+        return new MatchCsv().read(new StringReader(mergedCsv));
+    }
+
+    @Benchmark
+    public SeasonNormalizer.Season normalizeSeasonFile() throws IOException {
+        return SeasonNormalizer.normalize("2024/2025", new BufferedReader(new StringReader(seasonFile)));
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.myapplication;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+// CsvTokenizer against the String.split based parsing it replaced, reading the columns the
+// old MatchRepository used from the merged dataset with all statistics and odds columns
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CsvTokenizerBenchmark {
+    @Param({"10"})
+    public int seasons;
+
+    private String mergedCsv;
+
+    @Setup
+    public void setUp() throws IOException {
+        mergedCsv = SyntheticData.mergedCsv(seasons, 1);
+        // Both paths have to decode the same values, otherwise the comparison is meaningless
+        if (split() != tokenizer()) {
+            throw new IllegalStateException("CsvTokenizer and String.split decode different values");
+        }
+    }
+
+    // The previous MatchRepository path: split every line, trim and parse the needed columns
+    @Benchmark
+    public long split() throws IOException {
+        long checksum = 0;
+        try (BufferedReader reader = new BufferedReader(new StringReader(mergedCsv))) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split(",");
+                if (columns.length < 8) continue;
+                checksum += columns[0].trim().length()
+                        + Integer.parseInt(columns[1].trim())
+                        + columns[4].trim().length()
+                        + columns[5].trim().length()
+                        + Integer.parseInt(columns[6].trim())
+                        + Integer.parseInt(columns[7].trim())
+                        + Integer.parseInt(columns[10].trim());
+            }
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long tokenizer() throws IOException {
+        long checksum = 0;
+        try (CsvTokenizer csv = new CsvTokenizer(new StringReader(mergedCsv))) {
+            csv.nextRecord();
+            csv.project(0, 1, 4, 5, 6, 7, 10);
+            while (csv.nextRecord()) {
+                if (csv.fieldCount() < 8) continue;
+                checksum += csv.getTrimmed(0).length()
+                        + csv.getInt(1)
+                        + csv.getTrimmed(4).length()
+                        + csv.getTrimmed(5).length()
+                        + csv.getInt(6)
+                        + csv.getInt(7)
+                        + csv.getInt(10);
+            }
+        }
+        return checksum;
+    }
+}
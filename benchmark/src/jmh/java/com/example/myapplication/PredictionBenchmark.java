@@ -0,0 +1,67 @@
+package com.example.myapplication;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Predictions for a season that is half played: one gameday with and without the cache,
+// building a model from the table, and a short season simulation
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PredictionBenchmark {
+    private static final int PLAYED_GAMEDAYS = SyntheticData.GAMEDAYS / 2;
+
+    @Param({"10", "100"})
+    public int seasons;
+
+    @Param({"1", "4"})
+    public int leagues;
+
+    private FixtureCalendar calendar;
+    private MatchTable table;
+    private EloRatings ratings;
+    private PredictionEngine engine;
+    private SeasonSimulator simulator;
+
+    @Setup
+    public void setUp() throws IOException {
+        calendar = SyntheticData.calendar(seasons);
+        table = SyntheticData.table(seasons, leagues, PLAYED_GAMEDAYS);
+        ratings = EloRatings.fromTable(table);
+        PredictionModel model = new PredictionModel(calendar.season, calendar, table, ratings, 1);
+        engine = new PredictionEngine(model);
+        engine.calculatePredictions(PLAYED_GAMEDAYS + 1); // Fill the cache for the cached benchmark
+        simulator = new SeasonSimulator(model);
+    }
+
+    @Benchmark
+    public List<FutureMatch> calculatePredictionsUncached() {
+        return engine.predictGameday(PLAYED_GAMEDAYS + 1);
+    }
+
+    @Benchmark
+    public List<FutureMatch> calculatePredictionsCached() {
+        return engine.calculatePredictions(PLAYED_GAMEDAYS + 1);
+    }
+
+    // Model building includes the goal model fit; the ratings come from the repository in the app
+    @Benchmark
+    public PredictionModel buildModel() {
+        return new PredictionModel(calendar.season, calendar, table, ratings, 1);
+    }
+
+    @Benchmark
+    public SeasonSimulator.Result simulateSeason() throws Exception {
+        return simulator.run(SeasonSimulator.CHUNK_SIZE, 1, 1, null);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.myapplication;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.SplittableRandom;
+
+// Deterministic synthetic datasets shaped like the merged football-data file.
+// Every league has 18 teams playing a double round robin (34 gamedays of 9 matches) per season;
+// goals are Poisson distributed around fixed team strengths. Each league gets its own season
+// names ("2015/2016", "2015/2016 L2", ...), like separate competitions in one store.
+final class SyntheticData {
+    static final int TEAMS_PER_LEAGUE = 18;
+    static final int GAMEDAYS = 2 * (TEAMS_PER_LEAGUE - 1);
+    static final int FIRST_YEAR = 2015;
+
+    // Statistics and odds columns after the results, as in the real files
+    private static final String EXTRA_COLUMNS = ",HS,AS,HST,AST,HF,AF,HC,AC,HY,AY,HR,AR"
+            + ",B365H,B365D,B365A,BWH,BWD,BWA,IWH,IWD,IWA,PSH,PSD,PSA,WHH,WHD,WHA,VCH,VCD,VCA"
+            + ",MaxH,MaxD,MaxA,AvgH,AvgD,AvgA,B365>2.5,B365<2.5,P>2.5,P<2.5";
+    static final String MERGED_HEADER = "Season,Gameday,Div,Date,HomeTeam,AwayTeam,FTHG,FTAG,FTR,HTHG,HTAG,HTR"
+            + EXTRA_COLUMNS;
+    private static final int EXTRA_COLUMN_COUNT = EXTRA_COLUMNS.split(",").length - 1;
+
+    // Receives one generated match
+    interface MatchSink {
+        void accept(String season, int gameday, String homeTeam, String awayTeam, int homeGoals, int awayGoals);
+    }
+
+    private SyntheticData() {
+    }
+
+    static String seasonName(int year, int league) {
+        return year + "/" + (year + 1) + (league == 0 ? "" : " L" + (league + 1));
+    }
+
+    static String teamName(int league, int team) {
+        return "L" + (league + 1) + " Team " + (team + 1);
+    }
+
+    // Generates all matches; in the last season only gamedays up to lastSeasonGamedays are played
+    static void generate(int seasons, int leagues, int lastSeasonGamedays, long seed, MatchSink sink) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[][] rounds = roundRobin(TEAMS_PER_LEAGUE);
+        for (int league = 0; league < leagues; league++) {
+            double[] strength = new double[TEAMS_PER_LEAGUE];
+            for (int team = 0; team < TEAMS_PER_LEAGUE; team++) {
+                strength[team] = 0.6 + 0.8 * random.nextDouble();
+            }
+            for (int s = 0; s < seasons; s++) {
+                String season = seasonName(FIRST_YEAR + s, league);
+                int gamedays = s == seasons - 1 ? lastSeasonGamedays : GAMEDAYS;
+                for (int gameday = 1; gameday <= gamedays; gameday++) {
+                    for (int[] pair : fixturesOf(rounds, gameday)) {
+                        int homeGoals = poisson(random, 1.55 * strength[pair[0]] / strength[pair[1]]);
+                        int awayGoals = poisson(random, 1.2 * strength[pair[1]] / strength[pair[0]]);
+                        sink.accept(season, gameday, teamName(league, pair[0]), teamName(league, pair[1]),
+                                homeGoals, awayGoals);
+                    }
+                }
+            }
+        }
+    }
+
+    static MatchTable table(int seasons, int leagues, int lastSeasonGamedays) {
+        MatchTable.Builder builder = new MatchTable.Builder();
+        generate(seasons, leagues, lastSeasonGamedays, 42, (season, gameday, home, away, homeGoals, awayGoals) ->
+                builder.add(season, gameday, home, away, homeGoals, awayGoals)
+                        .stat(StatsCube.SHOTS_ON_TARGET, homeGoals + 3, awayGoals + 2));
+        return builder.build();
+    }
+
+    // The dataset as the app stores it, with all statistics and odds columns
+    static String mergedCsv(int seasons, int leagues) {
+        StringBuilder csv = new StringBuilder(seasons * leagues * 306 * 220);
+        csv.append(MERGED_HEADER).append('\n');
+        generate(seasons, leagues, GAMEDAYS, 42, (season, gameday, home, away, homeGoals, awayGoals) -> {
+            csv.append(season).append(',').append(gameday).append(",D1,23/08/2024,")
+                    .append(home).append(',').append(away).append(',')
+                    .append(homeGoals).append(',').append(awayGoals).append(',')
+                    .append(homeGoals > awayGoals ? 'H' : homeGoals == awayGoals ? 'D' : 'A').append(',')
+                    .append(homeGoals / 2).append(',').append(awayGoals / 2).append(",D");
+            appendExtraColumns(csv, gameday + homeGoals);
+            csv.append('\n');
+        });
+        return csv.toString();
+    }
+
+    // One raw football-data season file with the Time column, as SeasonNormalizer receives it
+    static String seasonFile() {
+        StringBuilder csv = new StringBuilder();
+        csv.append("Div,Date,Time,HomeTeam,AwayTeam,FTHG,FTAG,FTR,HTHG,HTAG,HTR").append(EXTRA_COLUMNS).append('\n');
+        generate(1, 1, GAMEDAYS, 7, (season, gameday, home, away, homeGoals, awayGoals) -> {
+            csv.append("D1,23/08/2024,20:30,").append(home).append(',').append(away).append(',')
+                    .append(homeGoals).append(',').append(awayGoals).append(",H,0,0,D");
+            appendExtraColumns(csv, gameday);
+            csv.append('\n');
+        });
+        return csv.toString();
+    }
+
+    // Gameplan of the last season of league 1 with all gamedays
+    static FixtureCalendar calendar(int seasons) throws IOException {
+        StringBuilder gameplan = new StringBuilder();
+        int[][] rounds = roundRobin(TEAMS_PER_LEAGUE);
+        String season = seasonName(FIRST_YEAR + seasons - 1, 0);
+        for (int gameday = 1; gameday <= GAMEDAYS; gameday++) {
+            for (int[] pair : fixturesOf(rounds, gameday)) {
+                gameplan.append(season).append(',').append(gameday).append(",01/09/2024,15:30,")
+                        .append(teamName(0, pair[0])).append(',').append(teamName(0, pair[1])).append('\n');
+            }
+        }
+        return FixtureCalendar.parse(new StringReader(gameplan.toString()));
+    }
+
+    private static void appendExtraColumns(StringBuilder csv, int salt) {
+        for (int i = 0; i < EXTRA_COLUMN_COUNT; i++) {
+            csv.append(',').append(1 + (salt + i) % 9).append('.').append(i % 10).append(salt % 7);
+        }
+    }
+
+    // Circle method: rounds[r] holds TEAMS / 2 pairs as home0, away0, home1, away1, ...
+    private static int[][] roundRobin(int teams) {
+        int[] rotation = new int[teams];
+        for (int i = 0; i < teams; i++) rotation[i] = i;
+        int[][] rounds = new int[teams - 1][teams];
+        for (int round = 0; round < teams - 1; round++) {
+            for (int i = 0; i < teams / 2; i++) {
+                boolean swap = i == 0 && round % 2 == 1;
+                rounds[round][2 * i] = rotation[swap ? teams - 1 - i : i];
+                rounds[round][2 * i + 1] = rotation[swap ? i : teams - 1 - i];
+            }
+            int last = rotation[teams - 1];
+            System.arraycopy(rotation, 1, rotation, 2, teams - 2);
+            rotation[1] = last;
+        }
+        return rounds;
+    }
+
+    // Pairs {home, away} of a gameday; the second half repeats the first with home and away swapped
+    private static int[][] fixturesOf(int[][] rounds, int gameday) {
+        int[] round = rounds[(gameday - 1) % rounds.length];
+        boolean secondHalf = gameday > rounds.length;
+        int[][] pairs = new int[round.length / 2][];
+        for (int i = 0; i < pairs.length; i++) {
+            int home = round[2 * i];
+            int away = round[2 * i + 1];
+            pairs[i] = secondHalf ? new int[] {away, home} : new int[] {home, away};
+        }
+        return pairs;
+    }
+
+    private static int poisson(SplittableRandom random, double rate) {
+        double limit = Math.exp(-rate);
+        double product = random.nextDouble();
+        int goals = 0;
+        while (product > limit && goals < 15) {
+            product *= random.nextDouble();
+            goals++;
+        }
+        return goals;
+    }
+}
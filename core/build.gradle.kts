@@ -0,0 +1,21 @@
+// Pure-Java data layer and prediction engine. No Android dependencies, so the same code runs
+// in the app, in plain JVM tests and in the JMH benchmarks. The test fixtures hold the
+// walk-forward Backtest, shared by the accuracy tests here and the cost benchmark in :benchmark.
+plugins {
+    `java-library`
+    `java-test-fixtures`
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_1_8
+    targetCompatibility = JavaVersion.VERSION_1_8
+}
+
+dependencies {
+    testImplementation(libs.junit)
+}
+
+tasks.test {
+    // Forward -Dbacktest.data=... from the Gradle command line to the backtest
+    System.getProperty("backtest.data")?.let { systemProperty("backtest.data", it) }
+}
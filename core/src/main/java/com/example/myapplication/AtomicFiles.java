@@ -0,0 +1,59 @@
+package com.example.myapplication;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+// Crash-safe file replacement: content is written to "<name>.tmp", flushed to disk with fsync
+// and then renamed over the target. Readers see either the old or the new file, never a partial one.
+public final class AtomicFiles {
+
+    // Writes the content of one file; the stream is buffered and must not be closed
+    public interface Content {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private AtomicFiles() {
+    }
+
+    // Replaces target with the written content
+    public static void write(File target, Content content) throws IOException {
+        File tempFile = new File(target.getPath() + ".tmp");
+        try {
+            try (FileOutputStream fileOut = new FileOutputStream(tempFile)) {
+                BufferedOutputStream out = new BufferedOutputStream(fileOut, 64 * 1024);
+                content.writeTo(out);
+                out.flush();
+                fileOut.getFD().sync();
+            }
+            // rename() replaces an existing target atomically on the same file system
+            if (!tempFile.renameTo(target)) {
+                throw new IOException("Could not move " + tempFile + " to " + target);
+            }
+        } catch (IOException | RuntimeException e) {
+            tempFile.delete();
+            throw e;
+        }
+    }
+
+    // Replaces target with its current bytes followed by the appended content.
+    // Unlike appending in place, a crash can not leave the target with half a line.
+    public static void append(File target, Content appended) throws IOException {
+        write(target, out -> {
+            if (target.exists()) {
+                try (InputStream in = new FileInputStream(target)) {
+                    byte[] buffer = new byte[64 * 1024];
+                    int count;
+                    while ((count = in.read(buffer)) != -1) {
+                        out.write(buffer, 0, count);
+                    }
+                }
+            }
+            appended.writeTo(out);
+        });
+    }
+}
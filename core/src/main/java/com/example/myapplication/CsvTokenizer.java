@@ -0,0 +1,309 @@
+package com.example.myapplication;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+// Streaming CSV reader that tokenizes one record at a time straight from a char buffer.
+// Fields are only recorded as offsets into a reusable record buffer; strings and ints are
+// decoded on request, so a caller that reads four columns pays for four columns.
+// Supports RFC 4180 quoting ("a,b", "say ""hi""", line breaks inside quotes), \n and \r\n
+// line endings and a leading byte order mark.
+//
+// Typical use:
+//   CsvTokenizer csv = new CsvTokenizer(reader);
+//   csv.nextRecord();                 // header
+//   csv.project(0, 1, 4, 5);          // optional: ignore all other columns
+//   while (csv.nextRecord()) { int gameday = csv.getInt(1); ... }
+public final class CsvTokenizer implements Closeable {
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final char[] buffer;
+    private int position;
+    private int limit;
+    private boolean atStart = true;
+
+    // Current record: characters of the kept fields and the [start, end) offsets of every field.
+    // Fields left out by the projection have start == -1.
+    private char[] record = new char[256];
+    private int recordLength;
+    private int[] fieldStart = new int[32];
+    private int[] fieldEnd = new int[32];
+    private int fieldCount;
+
+    // Columns to decode, null means all
+    private boolean[] projection;
+
+    public CsvTokenizer(Reader reader) {
+        this(reader, 8192);
+    }
+
+    public CsvTokenizer(Reader reader, int bufferSize) {
+        this.reader = reader;
+        this.buffer = new char[bufferSize];
+    }
+
+    // Restricts decoding to the given columns. Other columns are still counted by fieldCount(),
+    // but their characters are skipped and reading them throws IllegalStateException.
+    public void project(int... columns) {
+        int max = -1;
+        for (int column : columns) {
+            max = Math.max(max, column);
+        }
+        projection = new boolean[max + 1];
+        for (int column : columns) {
+            if (column >= 0) projection[column] = true;
+        }
+    }
+
+    // Decodes all columns again
+    public void projectAll() {
+        projection = null;
+    }
+
+    // Advances to the next record. Returns false at the end of the input.
+    public boolean nextRecord() throws IOException {
+        fieldCount = 0;
+        recordLength = 0;
+
+        int c = peek();
+        if (c == EOF) {
+            return false;
+        }
+        if (atStart) {
+            atStart = false;
+            if (c == '\uFEFF') {
+                position++; // Drop the byte order mark some files start with
+            }
+        }
+
+        while (true) {
+            boolean keep = isProjected(fieldCount);
+            int start = recordLength;
+            c = readField(keep);
+            addField(keep ? start : -1, keep ? recordLength : -1);
+
+            if (c == ',') {
+                continue;
+            }
+            if (c == '\r' && peek() == '\n') {
+                position++;
+            }
+            return true; // Line break or end of input
+        }
+    }
+
+    // Number of fields in the current record; a blank line has one empty field
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    // True if the field is missing or has no characters other than whitespace
+    public boolean isBlank(int column) {
+        if (column >= fieldCount) return true;
+        int start = start(column);
+        int end = trimEnd(start, fieldEnd[column]);
+        return trimStart(start, end) == end;
+    }
+
+    // Field value as a new string, or "" if the record has fewer fields
+    public String getString(int column) {
+        if (column >= fieldCount) return "";
+        int start = start(column);
+        return new String(record, start, fieldEnd[column] - start);
+    }
+
+    // Field value without surrounding whitespace
+    public String getTrimmed(int column) {
+        if (column >= fieldCount) return "";
+        int start = start(column);
+        int end = trimEnd(start, fieldEnd[column]);
+        start = trimStart(start, end);
+        return new String(record, start, end - start);
+    }
+
+    // Compares the trimmed field with the given text without creating a string
+    public boolean fieldEquals(int column, String text) {
+        if (text == null) return false;
+        if (column >= fieldCount) return text.isEmpty();
+        int start = start(column);
+        int end = trimEnd(start, fieldEnd[column]);
+        start = trimStart(start, end);
+        if (end - start != text.length()) return false;
+        for (int i = 0; i < text.length(); i++) {
+            if (record[start + i] != text.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    // Index of the first field equal to name (trimmed), or -1; mostly used on header records
+    public int indexOf(String name) {
+        for (int column = 0; column < fieldCount; column++) {
+            if (fieldStart[column] >= 0 && fieldEquals(column, name)) return column;
+        }
+        return -1;
+    }
+
+    // Parses the trimmed field as a decimal int without creating a substring.
+    // Throws NumberFormatException for missing, empty or non-numeric fields.
+    public int getInt(int column) {
+        if (column >= fieldCount) {
+            throw new NumberFormatException("Missing column " + column);
+        }
+        int start = start(column);
+        int end = trimEnd(start, fieldEnd[column]);
+        start = trimStart(start, end);
+        if (start == end) {
+            throw new NumberFormatException("Empty column " + column);
+        }
+
+        boolean negative = false;
+        int i = start;
+        if (record[i] == '-' || record[i] == '+') {
+            negative = record[i] == '-';
+            i++;
+            if (i == end) throw numberFormat(column, start, end);
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = record[i] - '0';
+            if (digit < 0 || digit > 9) throw numberFormat(column, start, end);
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) throw numberFormat(column, start, end);
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) throw numberFormat(column, start, end);
+        return (int) value;
+    }
+
+    // Like getInt(), but returns defaultValue instead of throwing
+    public int getInt(int column, int defaultValue) {
+        try {
+            return getInt(column);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    // Appends the field to out, quoting it if it contains a separator, quote or line break
+    public void appendField(int column, StringBuilder out) {
+        if (column >= fieldCount) return;
+        int start = start(column);
+        int end = fieldEnd[column];
+        boolean needsQuotes = false;
+        for (int i = start; i < end && !needsQuotes; i++) {
+            char c = record[i];
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            out.append(record, start, end - start);
+            return;
+        }
+        out.append('"');
+        for (int i = start; i < end; i++) {
+            if (record[i] == '"') out.append('"');
+            out.append(record[i]);
+        }
+        out.append('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // Reads one field up to and including its delimiter and returns the delimiter (',', '\r', '\n' or EOF)
+    private int readField(boolean keep) throws IOException {
+        int c = read();
+        if (c == '"') {
+            while (true) {
+                c = read();
+                if (c == EOF) {
+                    return EOF; // Unterminated quote: keep what was read
+                }
+                if (c == '"') {
+                    if (peek() != '"') break;
+                    position++; // Escaped quote
+                }
+                if (keep) append((char) c);
+            }
+            c = read(); // Characters after the closing quote are kept as they are
+        }
+        while (c != ',' && c != '\n' && c != '\r' && c != EOF) {
+            if (keep) append((char) c);
+            c = read();
+        }
+        return c;
+    }
+
+    private boolean isProjected(int column) {
+        return projection == null || (column < projection.length && projection[column]);
+    }
+
+    private int start(int column) {
+        int start = fieldStart[column];
+        if (start < 0) {
+            throw new IllegalStateException("Column " + column + " is not part of the projection");
+        }
+        return start;
+    }
+
+    private int trimStart(int start, int end) {
+        while (start < end && record[start] <= ' ') start++;
+        return start;
+    }
+
+    private int trimEnd(int start, int end) {
+        while (end > start && record[end - 1] <= ' ') end--;
+        return end;
+    }
+
+    private NumberFormatException numberFormat(int column, int start, int end) {
+        return new NumberFormatException("Column " + column + ": \"" + new String(record, start, end - start) + "\"");
+    }
+
+    private void append(char c) {
+        if (recordLength == record.length) {
+            char[] grown = new char[record.length * 2];
+            System.arraycopy(record, 0, grown, 0, recordLength);
+            record = grown;
+        }
+        record[recordLength++] = c;
+    }
+
+    private void addField(int start, int end) {
+        if (fieldCount == fieldStart.length) {
+            int[] grownStart = new int[fieldCount * 2];
+            int[] grownEnd = new int[fieldCount * 2];
+            System.arraycopy(fieldStart, 0, grownStart, 0, fieldCount);
+            System.arraycopy(fieldEnd, 0, grownEnd, 0, fieldCount);
+            fieldStart = grownStart;
+            fieldEnd = grownEnd;
+        }
+        fieldStart[fieldCount] = start;
+        fieldEnd[fieldCount] = end;
+        fieldCount++;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        if (c != EOF) position++;
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            int count;
+            do {
+                count = reader.read(buffer, 0, buffer.length);
+            } while (count == 0);
+            if (count < 0) {
+                return EOF;
+            }
+            position = 0;
+            limit = count;
+        }
+        return buffer[position];
+    }
+}
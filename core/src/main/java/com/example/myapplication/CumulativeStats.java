@@ -0,0 +1,139 @@
+package com.example.myapplication;
+
+import java.util.Arrays;
+
+// Prefix sums of team results per season and gameday, split into home and away.
+// get(..., gameday, metric) returns the running total after that gameday, so
+// "standings after gameday N" and "home record before gameday N" are array lookups.
+public final class CumulativeStats {
+    // Metrics stored per (season, team, side, gameday)
+    public static final int GAMES = 0;
+    public static final int WINS = 1;
+    public static final int DRAWS = 2;
+    public static final int LOSSES = 3;
+    public static final int GOALS_FOR = 4;
+    public static final int GOALS_AGAINST = 5;
+    public static final int POINTS = 6;
+    private static final int METRIC_COUNT = 7;
+
+    // Highest gameday per season
+    private final int[] maxGameday;
+
+    // Global team IDs that played in each season, in ascending ID order
+    private final int[][] seasonTeams;
+
+    // Per season: global team ID -> position in seasonTeams, or -1
+    private final int[][] localTeam;
+
+    // Per season: [localTeam][side][gameday 0..max][metric], gameday 0 holds zeros
+    private final int[][] data;
+
+    CumulativeStats(MatchTable table) {
+        int seasonCount = table.seasons.size();
+        int teamCount = table.teams.size();
+        maxGameday = new int[seasonCount];
+        seasonTeams = new int[seasonCount][];
+        localTeam = new int[seasonCount][];
+        data = new int[seasonCount][];
+
+        for (int i = 0; i < table.size; i++) {
+            int season = table.season[i];
+            maxGameday[season] = Math.max(maxGameday[season], table.gameday[i]);
+        }
+
+        for (int season = 0; season < seasonCount; season++) {
+            int[] local = new int[teamCount];
+            Arrays.fill(local, -1);
+            int count = 0;
+            for (int team = 0; team < teamCount; team++) {
+                if (table.index.hasPlayed(team, season)) {
+                    local[team] = count++;
+                }
+            }
+            int[] teams = new int[count];
+            for (int team = 0; team < teamCount; team++) {
+                if (local[team] >= 0) teams[local[team]] = team;
+            }
+            seasonTeams[season] = teams;
+            localTeam[season] = local;
+            data[season] = new int[count * 2 * (maxGameday[season] + 1) * METRIC_COUNT];
+        }
+
+        // Record each result on its own gameday ...
+        for (int i = 0; i < table.size; i++) {
+            int season = table.season[i];
+            int gameday = table.gameday[i];
+            int homeGoals = table.homeGoals[i];
+            int awayGoals = table.awayGoals[i];
+            record(season, table.homeTeam[i], MatchIndex.HOME, gameday, homeGoals, awayGoals);
+            record(season, table.awayTeam[i], MatchIndex.AWAY, gameday, awayGoals, homeGoals);
+        }
+
+        // ... then turn the per-gameday values into running totals
+        for (int season = 0; season < seasonCount; season++) {
+            int[] values = data[season];
+            int gamedays = maxGameday[season] + 1;
+            for (int block = 0; block < seasonTeams[season].length * 2; block++) {
+                int base = block * gamedays * METRIC_COUNT;
+                for (int gameday = 1; gameday < gamedays; gameday++) {
+                    int current = base + gameday * METRIC_COUNT;
+                    for (int metric = 0; metric < METRIC_COUNT; metric++) {
+                        values[current + metric] += values[current - METRIC_COUNT + metric];
+                    }
+                }
+            }
+        }
+    }
+
+    private void record(int season, int team, int side, int gameday, int goalsFor, int goalsAgainst) {
+        int offset = offset(season, localTeam[season][team], side, gameday);
+        int[] values = data[season];
+        values[offset + GAMES]++;
+        values[offset + GOALS_FOR] += goalsFor;
+        values[offset + GOALS_AGAINST] += goalsAgainst;
+        if (goalsFor > goalsAgainst) {
+            values[offset + WINS]++;
+            values[offset + POINTS] += 3;
+        } else if (goalsFor == goalsAgainst) {
+            values[offset + DRAWS]++;
+            values[offset + POINTS] += 1;
+        } else {
+            values[offset + LOSSES]++;
+        }
+    }
+
+    private int offset(int season, int local, int side, int gameday) {
+        return ((local * 2 + side) * (maxGameday[season] + 1) + gameday) * METRIC_COUNT;
+    }
+
+    // Running total of a metric for one side after the given gameday (inclusive)
+    public int get(int season, int team, int side, int gameday, int metric) {
+        if (season == TeamDictionary.UNKNOWN || team == TeamDictionary.UNKNOWN || gameday <= 0) {
+            return 0;
+        }
+        int local = localTeam[season][team];
+        if (local < 0) {
+            return 0;
+        }
+        return data[season][offset(season, local, side, Math.min(gameday, maxGameday[season])) + metric];
+    }
+
+    // Running total of a metric over home and away games after the given gameday (inclusive)
+    public int total(int season, int team, int gameday, int metric) {
+        return get(season, team, MatchIndex.HOME, gameday, metric) + get(season, team, MatchIndex.AWAY, gameday, metric);
+    }
+
+    // Running total of a metric for one side over the whole season
+    public int seasonTotal(int season, int team, int side, int metric) {
+        return season == TeamDictionary.UNKNOWN ? 0 : get(season, team, side, maxGameday[season], metric);
+    }
+
+    public int maxGameday(int season) {
+        return season == TeamDictionary.UNKNOWN ? 0 : maxGameday[season];
+    }
+
+    // Global team IDs that played in the season
+    public int[] teamsOf(int season) {
+        return season == TeamDictionary.UNKNOWN ? new int[0] : seasonTeams[season];
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.myapplication;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+// Elo ratings of all teams, kept as state and updated match by match in dataset order.
+//
+// Every match costs O(1): the expected result follows from the rating difference (plus a home
+// advantage) and both teams move by K * goal-difference factor * (result - expected).
+// At the first match of a new season all ratings regress towards INITIAL_RATING.
+//
+// The ratings remember how many rows of the MatchTable they contain and the last of those rows.
+// apply() only processes rows after that; if the table no longer starts with the applied rows
+// (the dataset was replaced), the ratings are rebuilt from scratch.
+//
+// Layout of the ratings file (big endian):
+//   int magic, int version, int appliedRows, UTF lastRow, UTF lastSeason,
+//   int teamCount, teamCount x (UTF name, double rating)
+public final class EloRatings {
+    // File name of the persisted ratings in internal storage
+    public static final String RATINGS_FILE = "2015-2024_Bundesligadata.elo";
+
+    static final double INITIAL_RATING = 1500;
+    static final double K_FACTOR = 20;
+    // Rating points added to the home team when computing the expected result
+    static final double HOME_ADVANTAGE = 65;
+    // Share of the distance to INITIAL_RATING removed at the start of every season
+    static final double SEASON_REGRESSION = 1.0 / 3;
+
+    private static final int MAGIC = 0x424C454C; // "BLEL"
+    private static final int VERSION = 1;
+
+    private final TeamDictionary teams;
+    private double[] ratings;
+    private int appliedRows;
+    private String lastRow = "";     // Key of the last applied row, see rowKey()
+    private String lastSeason = "";
+
+    public EloRatings() {
+        this(new TeamDictionary(), new double[16]);
+    }
+
+    private EloRatings(TeamDictionary teams, double[] ratings) {
+        this.teams = teams;
+        this.ratings = ratings;
+    }
+
+    // Ratings built from all matches of the table
+    public static EloRatings fromTable(MatchTable table) {
+        EloRatings result = new EloRatings();
+        result.apply(table);
+        return result;
+    }
+
+    // Applies the rows of the table that are not contained yet and returns how many were applied
+    public int apply(MatchTable table) {
+        if (!continues(table)) {
+            reset();
+        }
+        int from = appliedRows;
+        String seasonName = lastSeason;
+        int seasonId = table.seasons.idOf(seasonName);
+        for (int i = from; i < table.size; i++) {
+            if (table.season[i] != seasonId) {
+                seasonId = table.season[i];
+                seasonName = table.seasons.nameOf(seasonId);
+                startSeason(seasonName);
+            }
+            applyMatch(teamId(table.teams.nameOf(table.homeTeam[i])),
+                    teamId(table.teams.nameOf(table.awayTeam[i])),
+                    table.homeGoals[i], table.awayGoals[i]);
+        }
+        appliedRows = table.size;
+        if (table.size > from) {
+            lastRow = rowKey(table, table.size - 1);
+        }
+        return table.size - from;
+    }
+
+    // True if the first appliedRows rows of the table are the ones applied so far
+    private boolean continues(MatchTable table) {
+        if (appliedRows == 0) return true;
+        return table.size >= appliedRows && lastRow.equals(rowKey(table, appliedRows - 1));
+    }
+
+    private void reset() {
+        Arrays.fill(ratings, 0, teams.size(), INITIAL_RATING);
+        appliedRows = 0;
+        lastRow = "";
+        lastSeason = "";
+    }
+
+    private void startSeason(String season) {
+        if (!lastSeason.isEmpty()) {
+            for (int team = 0; team < teams.size(); team++) {
+                ratings[team] += (INITIAL_RATING - ratings[team]) * SEASON_REGRESSION;
+            }
+        }
+        lastSeason = season;
+    }
+
+    // ID of the team in this rating table; new teams start at INITIAL_RATING
+    private int teamId(String name) {
+        int teamCount = teams.size();
+        int id = teams.intern(name);
+        if (id == teamCount) {
+            if (id == ratings.length) {
+                ratings = Arrays.copyOf(ratings, ratings.length * 2);
+            }
+            ratings[id] = INITIAL_RATING;
+        }
+        return id;
+    }
+
+    private void applyMatch(int home, int away, int homeGoals, int awayGoals) {
+        double expected = expectedHomeScore(ratings[home], ratings[away]);
+        double actual = homeGoals > awayGoals ? 1 : homeGoals == awayGoals ? 0.5 : 0;
+        double change = K_FACTOR * goalDifferenceFactor(Math.abs(homeGoals - awayGoals)) * (actual - expected);
+        ratings[home] += change;
+        ratings[away] -= change;
+    }
+
+    // Expected score (win = 1, draw = 0.5) of the home team
+    static double expectedHomeScore(double homeRating, double awayRating) {
+        return 1 / (1 + Math.pow(10, (awayRating - homeRating - HOME_ADVANTAGE) / 400));
+    }
+
+    // Larger wins move the ratings further (World Football Elo weighting)
+    static double goalDifferenceFactor(int goalDifference) {
+        if (goalDifference <= 1) return 1;
+        if (goalDifference == 2) return 1.5;
+        return (11.0 + goalDifference) / 8;
+    }
+
+    // Current rating of the team, INITIAL_RATING for teams without matches
+    public double rating(String team) {
+        int id = teams.idOf(team);
+        return id == TeamDictionary.UNKNOWN ? INITIAL_RATING : ratings[id];
+    }
+
+    // Expected score of the home team in a match between the two teams
+    public double expectedHomeScore(String homeTeam, String awayTeam) {
+        return expectedHomeScore(rating(homeTeam), rating(awayTeam));
+    }
+
+    public int getAppliedRows() {
+        return appliedRows;
+    }
+
+    // Independent copy, e.g. to hand the current state to prediction threads
+    public EloRatings copy() {
+        TeamDictionary copiedTeams = new TeamDictionary();
+        for (int team = 0; team < teams.size(); team++) {
+            copiedTeams.intern(teams.nameOf(team));
+        }
+        EloRatings copy = new EloRatings(copiedTeams, Arrays.copyOf(ratings, ratings.length));
+        copy.appliedRows = appliedRows;
+        copy.lastRow = lastRow;
+        copy.lastSeason = lastSeason;
+        return copy;
+    }
+
+    // Identifies a row by its content, independent of dictionary IDs
+    private static String rowKey(MatchTable table, int row) {
+        return table.seasons.nameOf(table.season[row]) + '|' + table.gameday[row] + '|'
+                + table.teams.nameOf(table.homeTeam[row]) + '|' + table.teams.nameOf(table.awayTeam[row]) + '|'
+                + table.homeGoals[row] + ':' + table.awayGoals[row];
+    }
+
+    public void write(File file) throws IOException {
+        AtomicFiles.write(file, fileOut -> {
+            DataOutputStream out = new DataOutputStream(fileOut);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(appliedRows);
+            out.writeUTF(lastRow);
+            out.writeUTF(lastSeason);
+            out.writeInt(teams.size());
+            for (int team = 0; team < teams.size(); team++) {
+                out.writeUTF(teams.nameOf(team));
+                out.writeDouble(ratings[team]);
+            }
+            out.flush();
+        });
+    }
+
+    // Reads persisted ratings; returns null if the file is missing or has another version
+    public static EloRatings read(File file) throws IOException {
+        if (!file.exists()) {
+            return null;
+        }
+        try (InputStream fileIn = new BufferedInputStream(new FileInputStream(file))) {
+            DataInputStream in = new DataInputStream(fileIn);
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            int appliedRows = in.readInt();
+            String lastRow = in.readUTF();
+            String lastSeason = in.readUTF();
+            int teamCount = in.readInt();
+            if (appliedRows < 0 || teamCount < 0) {
+                throw new IOException("Corrupt ratings: " + file);
+            }
+
+            TeamDictionary teams = new TeamDictionary();
+            double[] ratings = new double[Math.max(16, teamCount)];
+            for (int team = 0; team < teamCount; team++) {
+                teams.intern(in.readUTF());
+                ratings[team] = in.readDouble();
+            }
+            EloRatings result = new EloRatings(teams, ratings);
+            result.appliedRows = appliedRows;
+            result.lastRow = lastRow;
+            result.lastSeason = lastSeason;
+            return result;
+        } catch (EOFException e) {
+            throw new IOException("Truncated ratings: " + file, e);
+        }
+    }
+}
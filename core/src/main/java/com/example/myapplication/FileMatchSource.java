@@ -0,0 +1,86 @@
+package com.example.myapplication;
+
+import java.io.File;
+import java.io.IOException;
+
+// MatchSource backed by a file outside of Android: the merged CSV, a MatchSnapshot or both.
+// The file is read on first access and read again once its size or modification time changes.
+// The generation is derived from those two values, so it changes as soon as the file does,
+// even before the next getTable(). Ratings are replayed once per loaded file.
+public final class FileMatchSource implements MatchSource {
+
+    // Decodes the file into a table
+    private interface Decoder {
+        MatchTable decode(File file) throws IOException;
+    }
+
+    private final File file;
+    private final Decoder decoder;
+
+    private MatchTable table;
+    private EloRatings ratings;
+    private long loadedStamp;
+
+    private FileMatchSource(File file, Decoder decoder) {
+        this.file = file;
+        this.decoder = decoder;
+    }
+
+    // The merged dataset CSV as written by MatchRepository
+    public static FileMatchSource csv(File file) {
+        return new FileMatchSource(file, csvFile -> new MatchCsv().read(csvFile));
+    }
+
+    // A MatchSnapshot; without the CSV next to it the snapshot is used as it is
+    public static FileMatchSource snapshot(File file) {
+        return new FileMatchSource(file, snapshotFile -> {
+            MatchTable snapshot = MatchSnapshot.read(snapshotFile, null);
+            if (snapshot == null) {
+                throw new IOException("Missing or unsupported snapshot: " + snapshotFile);
+            }
+            return snapshot;
+        });
+    }
+
+    // The merged CSV with its snapshot, as MatchRepository stores them: the snapshot is read while it
+    // belongs to the CSV and decodes cleanly, otherwise the CSV is parsed. The snapshot is not rewritten.
+    public static FileMatchSource withSnapshot(File csvFile, File snapshotFile) {
+        return new FileMatchSource(csvFile, file -> {
+            try {
+                MatchTable snapshot = MatchSnapshot.read(snapshotFile, file);
+                if (snapshot != null) {
+                    return snapshot;
+                }
+            } catch (IOException e) {
+                // Damaged snapshot, the CSV is the source of truth
+            }
+            return new MatchCsv().read(file);
+        });
+    }
+
+    @Override
+    public synchronized MatchTable getTable() throws IOException {
+        long stamp = getGeneration();
+        if (table == null || stamp != loadedStamp) {
+            table = decoder.decode(file);
+            ratings = null;
+            loadedStamp = stamp;
+        }
+        return table;
+    }
+
+    @Override
+    public long getGeneration() {
+        return file.lastModified() * 31 + file.length();
+    }
+
+    // Returns a copy, the cached ratings stay untouched
+    @Override
+    public synchronized EloRatings getRatings() throws IOException {
+        MatchTable current = getTable();
+        if (ratings == null) {
+            ratings = EloRatings.fromTable(current);
+        }
+        return ratings.copy();
+    }
+}
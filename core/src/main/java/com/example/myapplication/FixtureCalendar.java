@@ -0,0 +1,158 @@
+package com.example.myapplication;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Fixtures of one season from the gameplan, parsed once and indexed by gameday.
+// Rows: season,gameday,date,time,homeTeam,awayTeam. The fixtures are stored sorted by gameday with
+// an offset array (like MatchIndex), so "fixtures of gameday N" and "all fixtures after gameday N"
+// are views into one array and "next gameday" is a table lookup.
+public final class FixtureCalendar {
+    // One scheduled match
+    public static final class Fixture {
+        public final int gameday;
+        public final String date;   // Date as written in the gameplan, used for display
+        public final int dateKey;   // Parsed date as yyyyMMdd, 0 if the date could not be read
+        public final String time;
+        public final int homeTeam;  // IDs in FixtureCalendar.teams
+        public final int awayTeam;
+
+        Fixture(int gameday, String date, String time, int homeTeam, int awayTeam) {
+            this.gameday = gameday;
+            this.date = date;
+            this.dateKey = parseDateKey(date);
+            this.time = time;
+            this.homeTeam = homeTeam;
+            this.awayTeam = awayTeam;
+        }
+    }
+
+    public final String season;
+    public final TeamDictionary teams;
+
+    // Fixtures ordered by gameday; those of gameday g are fixtures[offsets[g]] .. fixtures[offsets[g + 1] - 1]
+    private final List<Fixture> fixtures;
+    private final int[] offsets;
+    // nextGameday[g] = first gameday > g that has fixtures, or 0
+    private final int[] nextGameday;
+
+    private FixtureCalendar(String season, TeamDictionary teams, List<Fixture> unordered, int maxGameday) {
+        this.season = season;
+        this.teams = teams;
+
+        // Counting sort by gameday keeps the file order within a gameday
+        offsets = new int[maxGameday + 2];
+        for (Fixture fixture : unordered) {
+            offsets[fixture.gameday + 1]++;
+        }
+        for (int g = 1; g < offsets.length; g++) {
+            offsets[g] += offsets[g - 1];
+        }
+        Fixture[] ordered = new Fixture[unordered.size()];
+        int[] next = Arrays.copyOf(offsets, offsets.length);
+        for (Fixture fixture : unordered) {
+            ordered[next[fixture.gameday]++] = fixture;
+        }
+        fixtures = Collections.unmodifiableList(Arrays.asList(ordered));
+
+        nextGameday = new int[maxGameday + 1];
+        int following = 0;
+        for (int g = maxGameday; g >= 0; g--) {
+            nextGameday[g] = following;
+            if (g > 0 && offsets[g + 1] > offsets[g]) following = g;
+        }
+    }
+
+    // Calendar without fixtures
+    public static FixtureCalendar empty(String season) {
+        return new FixtureCalendar(season, new TeamDictionary(), new ArrayList<>(), 0);
+    }
+
+    // Reads the fixtures of the season named in the first row; rows of other seasons are ignored.
+    // A leading header row is skipped if present.
+    public static FixtureCalendar parse(Reader reader) throws IOException {
+        TeamDictionary teams = new TeamDictionary();
+        List<Fixture> fixtures = new ArrayList<>();
+        String season = null;
+        int maxGameday = 0;
+
+        CsvTokenizer csv = new CsvTokenizer(reader);
+        while (csv.nextRecord()) {
+            if (csv.fieldCount() < 6) continue; // Skip blank and incomplete rows
+            int gameday = csv.getInt(1, -1);
+            if (gameday < 1) continue; // Header or invalid row
+
+            if (season == null) {
+                season = csv.getTrimmed(0);
+            } else if (!csv.fieldEquals(0, season)) {
+                continue;
+            }
+
+            fixtures.add(new Fixture(gameday, csv.getTrimmed(2), csv.getTrimmed(3),
+                    teams.intern(csv.getTrimmed(4)), teams.intern(csv.getTrimmed(5))));
+            maxGameday = Math.max(maxGameday, gameday);
+        }
+        return new FixtureCalendar(season, teams, fixtures, maxGameday);
+    }
+
+    public boolean isEmpty() {
+        return fixtures.isEmpty();
+    }
+
+    // Highest gameday in the calendar, 0 if empty
+    public int getMaxGameday() {
+        return offsets.length - 2;
+    }
+
+    // Fixtures of the gameday in gameplan order; empty for gamedays without fixtures
+    public List<Fixture> fixturesOf(int gameday) {
+        if (gameday < 1 || gameday > getMaxGameday()) {
+            return Collections.emptyList();
+        }
+        return fixtures.subList(offsets[gameday], offsets[gameday + 1]);
+    }
+
+    // All fixtures after the given gameday, ordered by gameday
+    public List<Fixture> fixturesAfter(int gameday) {
+        int from = Math.max(0, Math.min(gameday, getMaxGameday()));
+        return fixtures.subList(offsets[from + 1], fixtures.size());
+    }
+
+    // First gameday after the given one that has fixtures, 0 if there is none
+    public int nextGameday(int gameday) {
+        if (gameday < 0) gameday = 0;
+        return gameday < nextGameday.length ? nextGameday[gameday] : 0;
+    }
+
+    // Gamedays after the given one that have fixtures, ascending
+    public List<Integer> gamedaysAfter(int gameday) {
+        List<Integer> gamedays = new ArrayList<>();
+        for (int g = nextGameday(gameday); g != 0; g = nextGameday(g)) {
+            gamedays.add(g);
+        }
+        return gamedays;
+    }
+
+    public String nameOf(int team) {
+        return teams.nameOf(team);
+    }
+
+    // Reads "dd/MM/yyyy" (anything after the year is ignored) into yyyyMMdd
+    static int parseDateKey(String date) {
+        String[] parts = date.split("/");
+        if (parts.length < 3) return 0;
+        try {
+            int day = Integer.parseInt(parts[0].trim());
+            int month = Integer.parseInt(parts[1].trim());
+            int year = Integer.parseInt(parts[2].trim());
+            if (day < 1 || day > 31 || month < 1 || month > 12) return 0;
+            return year * 10000 + month * 100 + day;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.myapplication;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+// Where a PredictionModel gets the gameplan of the current season from. The app reads the
+// bundled asset (AssetFixtureSource); JVM code uses a file or an in-memory calendar.
+public interface FixtureSource {
+
+    FixtureCalendar getFixtures() throws IOException;
+
+    // A calendar that is already in memory
+    static FixtureSource of(FixtureCalendar calendar) {
+        return () -> calendar;
+    }
+
+    // A gameplan CSV file, parsed on every call
+    static FixtureSource fromFile(File file) {
+        return () -> {
+            try (Reader reader = new InputStreamReader(new FileInputStream(file), "UTF-8")) {
+                return FixtureCalendar.parse(reader);
+            }
+        };
+    }
+}
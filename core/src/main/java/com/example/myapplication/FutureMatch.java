@@ -0,0 +1,57 @@
+package com.example.myapplication;
+
+// Class to represent a future match with its details and predictions
+public final class FutureMatch {
+    public String date; // The date of the match
+    public String homeTeam; // The home team
+    public String awayTeam; // The away team
+    public double homeProbability; // Probability of the home team winning
+    public double drawProbability; // Probability of a draw
+    public double awayProbability; // Probability of the away team winning
+    public double totalAvgGoals;   // Total expected goals for the match
+    public double homeExpectedGoals; // Expected goals of the home team
+    public double awayExpectedGoals; // Expected goals of the away team
+    public double over15Probability; // Probability of over 1.5 goals
+    public double over25Probability; // Probability of over 2.5 goals
+    public double bothTeamsScoreProbability; // Probability that both teams score
+    public int likelyHomeGoals;    // Most likely exact score
+    public int likelyAwayGoals;
+    public double likelyScoreProbability; // Probability of the most likely exact score
+    public double homeRating;      // Elo ratings of both teams before the match
+    public double awayRating;
+
+    // Copy of another match with all its predictions
+    FutureMatch(FutureMatch other) {
+        this.date = other.date;
+        this.homeTeam = other.homeTeam;
+        this.awayTeam = other.awayTeam;
+        this.homeProbability = other.homeProbability;
+        this.drawProbability = other.drawProbability;
+        this.awayProbability = other.awayProbability;
+        this.totalAvgGoals = other.totalAvgGoals;
+        this.homeExpectedGoals = other.homeExpectedGoals;
+        this.awayExpectedGoals = other.awayExpectedGoals;
+        this.over15Probability = other.over15Probability;
+        this.over25Probability = other.over25Probability;
+        this.bothTeamsScoreProbability = other.bothTeamsScoreProbability;
+        this.likelyHomeGoals = other.likelyHomeGoals;
+        this.likelyAwayGoals = other.likelyAwayGoals;
+        this.likelyScoreProbability = other.likelyScoreProbability;
+        this.homeRating = other.homeRating;
+        this.awayRating = other.awayRating;
+    }
+
+    // Constructor to initialize a FutureMatch object
+    public FutureMatch(String date, String homeTeam, String awayTeam) {
+        this.date = date;
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.homeProbability = 0.0; // Initialize probabilities to 0
+        this.drawProbability = 0.0;
+        this.awayProbability = 0.0;
+        this.totalAvgGoals = 0.0; // Initialize average goals to 0
+        this.over15Probability = 0.0; // Initialize over/under probabilities to 0
+        this.over25Probability = 0.0;
+        this.bothTeamsScoreProbability = 0.0;
+    }
+}
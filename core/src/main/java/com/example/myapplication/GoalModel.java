@@ -0,0 +1,200 @@
+package com.example.myapplication;
+
+import java.util.Arrays;
+
+// Poisson goal model with Dixon-Coles low-score correction, fitted from the match table.
+//
+// Expected goals of a fixture:
+//   home goals  lambda = homeAverage * homeAttack[home] * awayDefence[away]
+//   away goals  mu     = awayAverage * awayAttack[away] * homeDefence[home]
+// Strengths are relative to the league average (1.0 = average) and are fitted by the usual
+// iterative maximum likelihood updates of the Poisson model. Older seasons count less
+// (SEASON_DECAY per season) and every team is shrunk towards average by PRIOR_GAMES
+// virtual average games, so promoted teams with few matches get sensible rates. The season
+// decay and the prior take the place of the old engine's per-gameday blend, which mixed the
+// last season into gamedays 1-6 of the current one and ignored it from gameday 7 on.
+// rho is chosen by maximising the Dixon-Coles likelihood over a small grid.
+//
+// A past gameday is predicted from a fit over the rows before it (fitBefore), so its own and
+// later results never leak into its predictions.
+//
+// A fitted model is immutable and can be shared between threads.
+public final class GoalModel {
+    // Weight of a season relative to the one after it
+    static final double SEASON_DECAY = 0.5;
+    // Virtual average games added to every team's record
+    static final double PRIOR_GAMES = 4;
+    private static final int ITERATIONS = 25;
+    private static final double RHO_MIN = -0.2;
+    private static final double RHO_MAX = 0.1;
+    private static final double RHO_STEP = 0.01;
+
+    final double homeAverage;
+    final double awayAverage;
+    final double rho;
+    private final double[] homeAttack;
+    private final double[] homeDefence;
+    private final double[] awayAttack;
+    private final double[] awayDefence;
+
+    private GoalModel(double homeAverage, double awayAverage, double rho, double[] homeAttack,
+                      double[] homeDefence, double[] awayAttack, double[] awayDefence) {
+        this.homeAverage = homeAverage;
+        this.awayAverage = awayAverage;
+        this.rho = rho;
+        this.homeAttack = homeAttack;
+        this.homeDefence = homeDefence;
+        this.awayAttack = awayAttack;
+        this.awayDefence = awayDefence;
+    }
+
+    // Fits the model to all matches of the table
+    public static GoalModel fit(MatchTable table) {
+        return fitBefore(table, TeamDictionary.UNKNOWN, 0);
+    }
+
+    // Fits the model to the matches known before the given gameday of the season: the rows of
+    // that season from beforeGameday on are left out. The other seasons are all used.
+    public static GoalModel fitBefore(MatchTable table, int season, int beforeGameday) {
+        int teamCount = table.teams.size();
+        double[] homeAttack = ones(teamCount);
+        double[] homeDefence = ones(teamCount);
+        double[] awayAttack = ones(teamCount);
+        double[] awayDefence = ones(teamCount);
+
+        double[] weight = rowWeights(table, season, beforeGameday);
+
+        // League averages
+        double weightSum = 0;
+        double homeGoalSum = 0;
+        double awayGoalSum = 0;
+        for (int i = 0; i < table.size; i++) {
+            weightSum += weight[i];
+            homeGoalSum += weight[i] * table.homeGoals[i];
+            awayGoalSum += weight[i] * table.awayGoals[i];
+        }
+        if (weightSum == 0) {
+            return new GoalModel(1.5, 1.2, 0, homeAttack, homeDefence, awayAttack, awayDefence);
+        }
+        double homeAverage = homeGoalSum / weightSum;
+        double awayAverage = awayGoalSum / weightSum;
+
+        // Weighted goals per team and side; they stay fixed during the iterations
+        double[] homeScored = new double[teamCount];
+        double[] homeConceded = new double[teamCount];
+        double[] awayScored = new double[teamCount];
+        double[] awayConceded = new double[teamCount];
+        for (int i = 0; i < table.size; i++) {
+            homeScored[table.homeTeam[i]] += weight[i] * table.homeGoals[i];
+            homeConceded[table.homeTeam[i]] += weight[i] * table.awayGoals[i];
+            awayScored[table.awayTeam[i]] += weight[i] * table.awayGoals[i];
+            awayConceded[table.awayTeam[i]] += weight[i] * table.homeGoals[i];
+        }
+
+        // Each update divides the goals by the goals expected from the opponents' current strengths
+        double[] homeAttackExposure = new double[teamCount];
+        double[] homeDefenceExposure = new double[teamCount];
+        double[] awayAttackExposure = new double[teamCount];
+        double[] awayDefenceExposure = new double[teamCount];
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            Arrays.fill(homeAttackExposure, 0);
+            Arrays.fill(homeDefenceExposure, 0);
+            Arrays.fill(awayAttackExposure, 0);
+            Arrays.fill(awayDefenceExposure, 0);
+            for (int i = 0; i < table.size; i++) {
+                int home = table.homeTeam[i];
+                int away = table.awayTeam[i];
+                homeAttackExposure[home] += weight[i] * homeAverage * awayDefence[away];
+                awayDefenceExposure[away] += weight[i] * homeAverage * homeAttack[home];
+                awayAttackExposure[away] += weight[i] * awayAverage * homeDefence[home];
+                homeDefenceExposure[home] += weight[i] * awayAverage * awayAttack[away];
+            }
+            for (int team = 0; team < teamCount; team++) {
+                // Prior: PRIOR_GAMES games against average opponents with average results
+                homeAttack[team] = (homeScored[team] + PRIOR_GAMES * homeAverage)
+                        / (homeAttackExposure[team] + PRIOR_GAMES * homeAverage);
+                awayDefence[team] = (awayConceded[team] + PRIOR_GAMES * homeAverage)
+                        / (awayDefenceExposure[team] + PRIOR_GAMES * homeAverage);
+                awayAttack[team] = (awayScored[team] + PRIOR_GAMES * awayAverage)
+                        / (awayAttackExposure[team] + PRIOR_GAMES * awayAverage);
+                homeDefence[team] = (homeConceded[team] + PRIOR_GAMES * awayAverage)
+                        / (homeDefenceExposure[team] + PRIOR_GAMES * awayAverage);
+            }
+        }
+
+        GoalModel independent = new GoalModel(homeAverage, awayAverage, 0,
+                homeAttack, homeDefence, awayAttack, awayDefence);
+        double rho = independent.fitRho(table, weight);
+        return new GoalModel(homeAverage, awayAverage, rho, homeAttack, homeDefence, awayAttack, awayDefence);
+    }
+
+    // Expected home goals of home against away; unknown teams count as average
+    public double homeRate(int home, int away) {
+        return homeAverage * value(homeAttack, home) * value(awayDefence, away);
+    }
+
+    // Expected away goals of away at home
+    public double awayRate(int home, int away) {
+        return awayAverage * value(awayAttack, away) * value(homeDefence, home);
+    }
+
+    // Fills the matrix with the scoreline probabilities of the fixture
+    public ScoreMatrix scores(int home, int away, ScoreMatrix matrix) {
+        return matrix.fill(homeRate(home, away), awayRate(home, away), rho);
+    }
+
+    // Weight of each row: 1 for the latest season, SEASON_DECAY for the one before, and so on;
+    // 0 for the rows of cutSeason from beforeGameday on
+    private static double[] rowWeights(MatchTable table, int cutSeason, int beforeGameday) {
+        double[] seasonWeight = new double[table.seasons.size()];
+        double w = 1;
+        for (int season : table.index.seasonsLatestFirst()) {
+            seasonWeight[season] = w;
+            w *= SEASON_DECAY;
+        }
+        double[] weight = new double[table.size];
+        for (int i = 0; i < table.size; i++) {
+            boolean later = table.season[i] == cutSeason && table.gameday[i] >= beforeGameday;
+            weight[i] = later ? 0 : seasonWeight[table.season[i]];
+        }
+        return weight;
+    }
+
+    // rho on the grid with the highest weighted Dixon-Coles log likelihood; only the four
+    // low scores depend on rho, so the other matches are skipped
+    private double fitRho(MatchTable table, double[] weight) {
+        double bestRho = 0;
+        double bestLikelihood = Double.NEGATIVE_INFINITY;
+        for (double candidate = RHO_MIN; candidate <= RHO_MAX + 1e-9; candidate += RHO_STEP) {
+            double likelihood = 0;
+            for (int i = 0; i < table.size; i++) {
+                int homeGoals = table.homeGoals[i];
+                int awayGoals = table.awayGoals[i];
+                if (homeGoals > 1 || awayGoals > 1 || weight[i] == 0) continue;
+                double lambda = homeRate(table.homeTeam[i], table.awayTeam[i]);
+                double mu = awayRate(table.homeTeam[i], table.awayTeam[i]);
+                double tau = ScoreMatrix.tau(homeGoals, awayGoals, lambda, mu, candidate);
+                if (tau <= 0) {
+                    likelihood = Double.NEGATIVE_INFINITY;
+                    break;
+                }
+                likelihood += weight[i] * Math.log(tau);
+            }
+            if (likelihood > bestLikelihood) {
+                bestLikelihood = likelihood;
+                bestRho = candidate;
+            }
+        }
+        return bestRho;
+    }
+
+    private static double value(double[] values, int team) {
+        return team == TeamDictionary.UNKNOWN || team >= values.length ? 1 : values[team];
+    }
+
+    private static double[] ones(int length) {
+        double[] values = new double[length];
+        Arrays.fill(values, 1);
+        return values;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.myapplication;
+
+// MatchSource holding a table in memory, e.g. for tests or a service that receives results
+// from elsewhere. set() replaces the table and increments the generation.
+public final class InMemoryMatchSource implements MatchSource {
+    private volatile MatchTable table;
+    private volatile long generation;
+
+    public InMemoryMatchSource(MatchTable table) {
+        this.table = table;
+    }
+
+    public synchronized void set(MatchTable table) {
+        this.table = table;
+        generation++;
+    }
+
+    @Override
+    public MatchTable getTable() {
+        return table;
+    }
+
+    @Override
+    public long getGeneration() {
+        return generation;
+    }
+}
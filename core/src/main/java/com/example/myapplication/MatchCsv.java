@@ -0,0 +1,103 @@
+package com.example.myapplication;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+// Reads the merged dataset CSV into a MatchTable. Pure Java, so the app, the tests and the
+// benchmarks share one parse path. Columns are found by their header names; rows with
+// unparsable numbers are skipped and counted.
+public final class MatchCsv {
+    private int skippedRows;
+    private String firstError;
+
+    // Parses the UTF-8 file; an I/O error is thrown, malformed rows are skipped
+    public MatchTable read(File dataFile) throws IOException {
+        try (Reader reader = new InputStreamReader(new FileInputStream(dataFile), StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+
+    public MatchTable read(Reader reader) throws IOException {
+        MatchTable.Builder builder = new MatchTable.Builder();
+        try (CsvTokenizer csv = new CsvTokenizer(reader, 64 * 1024)) {
+            if (!csv.nextRecord()) {
+                return builder.build(); // Empty file
+            }
+
+            // Columns are looked up by header name; statistics and the date are optional
+            int season = required(csv, "Season");
+            int gameday = required(csv, "Gameday");
+            int homeTeam = required(csv, "HomeTeam");
+            int awayTeam = required(csv, "AwayTeam");
+            int homeGoals = required(csv, "FTHG");
+            int awayGoals = required(csv, "FTAG");
+            int date = csv.indexOf("Date");
+            int[] homeStats = new int[StatsCube.ROW_STATS];
+            int[] awayStats = new int[StatsCube.ROW_STATS];
+            for (int stat = 0; stat < StatsCube.ROW_STATS; stat++) {
+                homeStats[stat] = csv.indexOf(MatchSchema.HOME_STAT_COLUMNS[stat]);
+                awayStats[stat] = csv.indexOf(MatchSchema.AWAY_STAT_COLUMNS[stat]);
+            }
+            int lastRequired = Math.max(Math.max(Math.max(season, gameday), Math.max(homeTeam, awayTeam)),
+                    Math.max(homeGoals, awayGoals));
+
+            // Only the columns the table stores are decoded
+            int[] projection = new int[7 + 2 * StatsCube.ROW_STATS];
+            int[] required = {season, gameday, homeTeam, awayTeam, homeGoals, awayGoals, date};
+            System.arraycopy(required, 0, projection, 0, required.length);
+            System.arraycopy(homeStats, 0, projection, 7, StatsCube.ROW_STATS);
+            System.arraycopy(awayStats, 0, projection, 7 + StatsCube.ROW_STATS, StatsCube.ROW_STATS);
+            csv.project(projection);
+
+            while (csv.nextRecord()) {
+                if (csv.fieldCount() <= lastRequired) continue; // Skip incomplete rows
+
+                try {
+                    builder.add(
+                            csv.getTrimmed(season),
+                            csv.getInt(gameday),
+                            date >= 0 ? FixtureCalendar.parseDateKey(csv.getTrimmed(date)) : 0,
+                            csv.getTrimmed(homeTeam),
+                            csv.getTrimmed(awayTeam),
+                            csv.getInt(homeGoals),
+                            csv.getInt(awayGoals)
+                    );
+                } catch (NumberFormatException e) {
+                    if (skippedRows++ == 0) firstError = e.getMessage();
+                    continue;
+                }
+                for (int stat = 0; stat < StatsCube.ROW_STATS; stat++) {
+                    builder.stat(stat, optionalInt(csv, homeStats[stat]), optionalInt(csv, awayStats[stat]));
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private static int required(CsvTokenizer header, String name) throws IOException {
+        int column = header.indexOf(name);
+        if (column < 0) {
+            throw new IOException("Missing column " + name);
+        }
+        return column;
+    }
+
+    // Value of an optional statistic, -1 if the column or the value is missing
+    private static int optionalInt(CsvTokenizer csv, int column) {
+        return column >= 0 && !csv.isBlank(column) ? csv.getInt(column, -1) : -1;
+    }
+
+    // Number of rows skipped because a number could not be parsed
+    public int getSkippedRows() {
+        return skippedRows;
+    }
+
+    // Message of the first skipped row, null if none was skipped
+    public String getFirstError() {
+        return firstError;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.myapplication;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+// Season lookups over a MatchTable: which teams played in a season, and the seasons ordered
+// from the latest to the oldest. A team's matches are read through TeamTimeline, per-gameday
+// totals through CumulativeStats.
+public final class MatchIndex {
+    // Side flags used by CumulativeStats and StatsCube
+    public static final int HOME = 0;
+    public static final int AWAY = 1;
+
+    private final int seasonCount;
+
+    // played[team * seasonCount + season] is set if the team has a match in the season
+    private final boolean[] played;
+
+    // Season IDs ordered from the latest to the oldest season name
+    private final int[] seasonsLatestFirst;
+
+    MatchIndex(MatchTable table) {
+        int teamCount = table.teams.size();
+        this.seasonCount = table.seasons.size();
+
+        played = new boolean[teamCount * seasonCount];
+        for (int i = 0; i < table.size; i++) {
+            played[table.homeTeam[i] * seasonCount + table.season[i]] = true;
+            played[table.awayTeam[i] * seasonCount + table.season[i]] = true;
+        }
+
+        Integer[] order = new Integer[seasonCount];
+        for (int s = 0; s < seasonCount; s++) {
+            order[s] = s;
+        }
+        Arrays.sort(order, Comparator.comparing((Integer s) -> table.seasons.nameOf(s)).reversed());
+        seasonsLatestFirst = new int[seasonCount];
+        for (int s = 0; s < seasonCount; s++) {
+            seasonsLatestFirst[s] = order[s];
+        }
+    }
+
+    // Whether the team played at least one match in the season
+    public boolean hasPlayed(int team, int season) {
+        if (team == TeamDictionary.UNKNOWN || season == TeamDictionary.UNKNOWN) {
+            return false;
+        }
+        return played[team * seasonCount + season];
+    }
+
+    // Season IDs ordered from the latest to the oldest season
+    public int[] seasonsLatestFirst() {
+        return seasonsLatestFirst;
+    }
+}
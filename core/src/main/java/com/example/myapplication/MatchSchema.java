@@ -0,0 +1,88 @@
+package com.example.myapplication;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Column layout of the stored dataset: Season and Gameday followed by the football-data.co.uk
+// columns the app reads. Source files are mapped onto it by header name, once per file, so
+// optional columns (Time, odds, columns added or dropped between seasons) never shift the
+// fields that are kept, and the stored file only holds what MatchCsv decodes.
+public final class MatchSchema {
+    // football-data.co.uk columns of the statistics, indexed by StatsCube metric
+    static final String[] HOME_STAT_COLUMNS = {"HS", "HST", "HC", "HF", "HY", "HR", "HTHG"};
+    static final String[] AWAY_STAT_COLUMNS = {"AS", "AST", "AC", "AF", "AY", "AR", "HTAG"};
+
+    // Stored columns in file order
+    static final String[] COLUMNS = {
+            "Season", "Gameday", "Date", "HomeTeam", "AwayTeam", "FTHG", "FTAG", "HTHG", "HTAG",
+            "HS", "AS", "HST", "AST", "HC", "AC", "HF", "AF", "HY", "AY", "HR", "AR"
+    };
+
+    // Header line of the stored dataset
+    public static final String HEADER = String.join(",", COLUMNS);
+
+    // Columns a file needs to be usable; all others are left empty when a season lacks them
+    private static final String[] REQUIRED = {"HomeTeam", "AwayTeam", "FTHG", "FTAG"};
+
+    // Season and Gameday are added by SeasonNormalizer, the remaining columns come from the source
+    static final int FIRST_SOURCE_COLUMN = 2;
+
+    // Position of HomeTeam in COLUMNS; rows without it are padding
+    static final int HOME_TEAM = 3;
+
+    private MatchSchema() {
+    }
+
+    // Source column of every stored column, read from the header record; -1 for columns the file does not have.
+    // Throws if one of the required columns is missing.
+    static int[] resolve(CsvTokenizer header) throws IOException {
+        for (String name : REQUIRED) {
+            if (header.indexOf(name) < 0) {
+                throw new IOException("Missing column " + name);
+            }
+        }
+        int[] columns = new int[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            columns[i] = header.indexOf(COLUMNS[i]);
+        }
+        return columns;
+    }
+
+    // Appends the stored columns from index from on of the current record, each preceded by a comma
+    static void appendRow(CsvTokenizer csv, int[] columns, int from, StringBuilder out) {
+        for (int i = from; i < columns.length; i++) {
+            out.append(',');
+            if (columns[i] >= 0) csv.appendField(columns[i], out);
+        }
+    }
+
+    // Rows of a dataset written with another layout (e.g. the full football-data columns), mapped
+    // onto the current one. The file needs Season and Gameday columns; incomplete rows are dropped.
+    public static List<String> convert(Reader reader) throws IOException {
+        List<String> rows = new ArrayList<>();
+        try (CsvTokenizer csv = new CsvTokenizer(reader)) {
+            if (!csv.nextRecord()) {
+                return rows;
+            }
+            int[] columns = resolve(csv);
+            if (columns[0] < 0 || columns[1] < 0) {
+                throw new IOException("Missing column " + (columns[0] < 0 ? COLUMNS[0] : COLUMNS[1]));
+            }
+            csv.project(columns);
+
+            int homeTeam = columns[HOME_TEAM];
+            StringBuilder row = new StringBuilder(128);
+            while (csv.nextRecord()) {
+                if (csv.isBlank(homeTeam)) continue; // Skip blank and padding rows
+
+                row.setLength(0);
+                csv.appendField(columns[0], row);
+                appendRow(csv, columns, 1, row);
+                rows.add(row.toString());
+            }
+        }
+        return rows;
+    }
+}
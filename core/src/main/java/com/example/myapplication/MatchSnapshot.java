@@ -0,0 +1,147 @@
+package com.example.myapplication;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+
+// Versioned binary copy of a MatchTable, stored next to the CSV in internal storage.
+//
+// Layout (big endian):
+//   int magic, int version, long sourceLength, long sourceLastModified,
+//   int teamCount, teamCount x (int byteLength, UTF-8 bytes),
+//   int seasonCount, seasonCount x (int byteLength, UTF-8 bytes),
+//   int rowCount, rowCount x fixed-width row of ROW_BYTES:
+//     short season, byte gameday, int date, short homeTeam, short awayTeam, byte homeGoals, byte awayGoals,
+//     StatsCube.ROW_STATS x byte home statistic, StatsCube.ROW_STATS x byte away statistic (-1 if unknown)
+//
+// The source length and modification time identify the CSV the snapshot was built from,
+// so a snapshot that no longer matches the CSV is ignored. Team and season IDs are checked
+// against the decoded dictionaries, so a damaged file fails with an IOException.
+public final class MatchSnapshot {
+    // File name of the snapshot in internal storage
+    public static final String SNAPSHOT_FILE = "2015-2024_Bundesligadata.bin";
+
+    private static final int MAGIC = 0x424C4D53; // "BLMS"
+    private static final int VERSION = 3;
+    private static final int ROW_BYTES = 13 + 2 * StatsCube.ROW_STATS;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private MatchSnapshot() {
+    }
+
+    // Writes the table to the snapshot file, tagged with the size and timestamp of its source CSV
+    public static void write(MatchTable table, File snapshotFile, File sourceFile) throws IOException {
+        AtomicFiles.write(snapshotFile, fileOut -> {
+            DataOutputStream out = new DataOutputStream(fileOut);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(sourceFile.length());
+            out.writeLong(sourceFile.lastModified());
+
+            writeDictionary(out, table.teams);
+            writeDictionary(out, table.seasons);
+
+            out.writeInt(table.size);
+            for (int i = 0; i < table.size; i++) {
+                out.writeShort(table.season[i]);
+                out.writeByte(table.gameday[i]);
+                out.writeInt(table.date[i]);
+                out.writeShort(table.homeTeam[i]);
+                out.writeShort(table.awayTeam[i]);
+                out.writeByte(table.homeGoals[i]);
+                out.writeByte(table.awayGoals[i]);
+                out.write(table.homeStats, i * StatsCube.ROW_STATS, StatsCube.ROW_STATS);
+                out.write(table.awayStats, i * StatsCube.ROW_STATS, StatsCube.ROW_STATS);
+            }
+            out.flush();
+        });
+    }
+
+    private static void writeDictionary(DataOutputStream out, TeamDictionary dictionary) throws IOException {
+        out.writeInt(dictionary.size());
+        for (int id = 0; id < dictionary.size(); id++) {
+            byte[] bytes = dictionary.nameOf(id).getBytes(UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    // Maps the snapshot file and decodes it into a MatchTable.
+    // Returns null if the snapshot is missing, has another version or was built from a different CSV.
+    // With sourceFile null the source check is skipped, e.g. for a snapshot copied without its CSV.
+    public static MatchTable read(File snapshotFile, File sourceFile) throws IOException {
+        if (!snapshotFile.exists()) {
+            return null;
+        }
+
+        try (FileInputStream in = new FileInputStream(snapshotFile);
+             FileChannel channel = in.getChannel()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            long sourceLength = buffer.getLong();
+            long sourceLastModified = buffer.getLong();
+            if (sourceFile != null
+                    && (sourceLength != sourceFile.length() || sourceLastModified != sourceFile.lastModified())) {
+                return null; // CSV changed since the snapshot was written
+            }
+
+            TeamDictionary teams = readDictionary(buffer);
+            TeamDictionary seasons = readDictionary(buffer);
+
+            int rowCount = buffer.getInt();
+            if (rowCount < 0 || buffer.remaining() < (long) rowCount * ROW_BYTES) {
+                throw new IOException("Truncated snapshot: " + snapshotFile);
+            }
+
+            MatchTable.Builder builder = new MatchTable.Builder(teams, seasons, rowCount);
+            byte[] homeStats = new byte[StatsCube.ROW_STATS];
+            byte[] awayStats = new byte[StatsCube.ROW_STATS];
+            for (int i = 0; i < rowCount; i++) {
+                short season = buffer.getShort();
+                byte gameday = buffer.get();
+                int date = buffer.getInt();
+                short homeTeam = buffer.getShort();
+                short awayTeam = buffer.getShort();
+                byte homeGoals = buffer.get();
+                byte awayGoals = buffer.get();
+                buffer.get(homeStats);
+                buffer.get(awayStats);
+                if (!isId(season, seasons) || !isId(homeTeam, teams) || !isId(awayTeam, teams) || gameday < 0) {
+                    throw new IOException("Corrupt snapshot row " + i + ": " + snapshotFile);
+                }
+                builder.addRow(season, gameday, date, homeTeam, awayTeam, homeGoals, awayGoals);
+                for (int stat = 0; stat < StatsCube.ROW_STATS; stat++) {
+                    builder.stat(stat, homeStats[stat], awayStats[stat]);
+                }
+            }
+            return builder.build();
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException
+                 | IndexOutOfBoundsException e) {
+            throw new IOException("Corrupt snapshot: " + snapshotFile, e);
+        }
+    }
+
+    private static boolean isId(int id, TeamDictionary dictionary) {
+        return id >= 0 && id < dictionary.size();
+    }
+
+    private static TeamDictionary readDictionary(ByteBuffer buffer) {
+        TeamDictionary dictionary = new TeamDictionary();
+        int count = buffer.getInt();
+        for (int id = 0; id < count; id++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            dictionary.intern(new String(bytes, UTF_8));
+        }
+        return dictionary;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.myapplication;
+
+import java.io.IOException;
+
+// Where a PredictionModel gets its match history from. Implementations: MatchRepository (the
+// app's internal storage), FileMatchSource (a CSV file or a binary snapshot on any JVM) and
+// InMemoryMatchSource (tests, services that keep the data in memory).
+public interface MatchSource {
+
+    // All matches in chronological file order
+    MatchTable getTable() throws IOException;
+
+    // Changes whenever getTable() would return different data
+    long getGeneration();
+
+    // Elo ratings after all matches of getTable(); sources that persist or cache ratings override this
+    default EloRatings getRatings() throws IOException {
+        return EloRatings.fromTable(getTable());
+    }
+}
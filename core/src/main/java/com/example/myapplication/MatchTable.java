@@ -0,0 +1,236 @@
+package com.example.myapplication;
+
+import java.util.Arrays;
+
+// Columnar, immutable table of played matches.
+// Every row is spread over primitive arrays; teams and seasons are stored as interned IDs.
+// Rows keep the order of the source file, which is chronological.
+public final class MatchTable {
+    // Dictionaries for team and season names
+    final TeamDictionary teams;
+    final TeamDictionary seasons;
+
+    // Number of rows
+    final int size;
+
+    // Column arrays, all of length >= size
+    final short[] season;
+    final byte[] gameday;
+    final int[] date;           // yyyyMMdd, 0 if unknown
+    final int[] homeTeam;
+    final int[] awayTeam;
+    final byte[] homeGoals;
+    final byte[] awayGoals;
+
+    // Match statistics per side, StatsCube.ROW_STATS values per row (row * ROW_STATS + stat), -1 if unknown
+    final byte[] homeStats;
+    final byte[] awayStats;
+
+    // Teams per season and the season order
+    final MatchIndex index;
+
+    // Running team totals per season and gameday
+    final CumulativeStats cumulative;
+
+    // Matches of every team in chronological order
+    final TeamTimeline timeline;
+
+    // Seasons, gamedays and the rows of every gameday, for browsing the table
+    final NavigationIndex navigation;
+
+    // Statistics per team and season, for and against, home and away
+    final StatsCube stats;
+
+    private MatchTable(Builder builder) {
+        this.teams = builder.teams;
+        this.seasons = builder.seasons;
+        this.size = builder.size;
+        this.season = Arrays.copyOf(builder.season, size);
+        this.gameday = Arrays.copyOf(builder.gameday, size);
+        this.date = Arrays.copyOf(builder.date, size);
+        this.homeTeam = Arrays.copyOf(builder.homeTeam, size);
+        this.awayTeam = Arrays.copyOf(builder.awayTeam, size);
+        this.homeGoals = Arrays.copyOf(builder.homeGoals, size);
+        this.awayGoals = Arrays.copyOf(builder.awayGoals, size);
+        this.homeStats = Arrays.copyOf(builder.homeStats, size * StatsCube.ROW_STATS);
+        this.awayStats = Arrays.copyOf(builder.awayStats, size * StatsCube.ROW_STATS);
+        this.index = new MatchIndex(this);
+        this.cumulative = new CumulativeStats(this);
+        this.timeline = new TeamTimeline(this);
+        this.navigation = new NavigationIndex(this);
+        this.stats = new StatsCube(this);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public TeamDictionary getTeams() {
+        return teams;
+    }
+
+    public TeamDictionary getSeasons() {
+        return seasons;
+    }
+
+    public MatchIndex getIndex() {
+        return index;
+    }
+
+    public CumulativeStats getCumulative() {
+        return cumulative;
+    }
+
+    public NavigationIndex getNavigation() {
+        return navigation;
+    }
+
+    public TeamTimeline getTimeline() {
+        return timeline;
+    }
+
+    public StatsCube getStats() {
+        return stats;
+    }
+
+    // Values of one row, 0 <= row < size(); teams and seasons are IDs of getTeams() and getSeasons()
+    public int getSeason(int row) {
+        return season[row];
+    }
+
+    public int getGameday(int row) {
+        return gameday[row];
+    }
+
+    // Match date as yyyyMMdd, 0 if unknown
+    public int getDate(int row) {
+        return date[row];
+    }
+
+    public int getHomeTeam(int row) {
+        return homeTeam[row];
+    }
+
+    public int getAwayTeam(int row) {
+        return awayTeam[row];
+    }
+
+    public int getHomeGoals(int row) {
+        return homeGoals[row];
+    }
+
+    public int getAwayGoals(int row) {
+        return awayGoals[row];
+    }
+
+    // Season name of the last row, or null for an empty table
+    public String getLatestSeason() {
+        return size > 0 ? seasons.nameOf(season[size - 1]) : null;
+    }
+
+    // Highest gameday played in the given season, 0 if the season has no rows
+    public int getLatestGameday(int seasonId) {
+        return cumulative.maxGameday(seasonId);
+    }
+
+    public static MatchTable empty() {
+        return new Builder().build();
+    }
+
+    // Collects rows while parsing and freezes them into a MatchTable
+    public static final class Builder {
+        private final TeamDictionary teams;
+        private final TeamDictionary seasons;
+        private int size;
+
+        private short[] season;
+        private byte[] gameday;
+        private int[] date;
+        private int[] homeTeam;
+        private int[] awayTeam;
+        private byte[] homeGoals;
+        private byte[] awayGoals;
+        private byte[] homeStats;
+        private byte[] awayStats;
+
+        public Builder() {
+            this(new TeamDictionary(), new TeamDictionary(), 1024);
+        }
+
+        // Builder for rows whose team and season IDs are already resolved against the given dictionaries
+        Builder(TeamDictionary teams, TeamDictionary seasons, int capacity) {
+            this.teams = teams;
+            this.seasons = seasons;
+            int initial = Math.max(capacity, 16);
+            season = new short[initial];
+            gameday = new byte[initial];
+            date = new int[initial];
+            homeTeam = new int[initial];
+            awayTeam = new int[initial];
+            homeGoals = new byte[initial];
+            awayGoals = new byte[initial];
+            homeStats = new byte[initial * StatsCube.ROW_STATS];
+            awayStats = new byte[initial * StatsCube.ROW_STATS];
+        }
+
+        // Row without a match date, e.g. for generated data
+        public Builder add(String seasonName, int gamedayValue, String homeTeamName, String awayTeamName,
+                           int homeGoalsValue, int awayGoalsValue) {
+            return add(seasonName, gamedayValue, 0, homeTeamName, awayTeamName, homeGoalsValue, awayGoalsValue);
+        }
+
+        // dateKey is the match date as yyyyMMdd, 0 if unknown. Statistics start out unknown, see stat().
+        public Builder add(String seasonName, int gamedayValue, int dateKey, String homeTeamName, String awayTeamName,
+                           int homeGoalsValue, int awayGoalsValue) {
+            return addRow(seasons.intern(seasonName), gamedayValue, dateKey, teams.intern(homeTeamName),
+                    teams.intern(awayTeamName), homeGoalsValue, awayGoalsValue);
+        }
+
+        // Sets one statistic (StatsCube.SHOTS ... HALF_TIME_GOALS) of the last added row; -1 means unknown
+        public Builder stat(int stat, int homeValue, int awayValue) {
+            int offset = (size - 1) * StatsCube.ROW_STATS + stat;
+            homeStats[offset] = (byte) homeValue;
+            awayStats[offset] = (byte) awayValue;
+            return this;
+        }
+
+        Builder addRow(int seasonId, int gamedayValue, int dateKey, int homeTeamId, int awayTeamId,
+                       int homeGoalsValue, int awayGoalsValue) {
+            if (size == season.length) {
+                grow();
+            }
+            season[size] = (short) seasonId;
+            gameday[size] = (byte) gamedayValue;
+            date[size] = dateKey;
+            homeTeam[size] = homeTeamId;
+            awayTeam[size] = awayTeamId;
+            homeGoals[size] = (byte) homeGoalsValue;
+            awayGoals[size] = (byte) awayGoalsValue;
+            Arrays.fill(homeStats, size * StatsCube.ROW_STATS, (size + 1) * StatsCube.ROW_STATS, (byte) -1);
+            Arrays.fill(awayStats, size * StatsCube.ROW_STATS, (size + 1) * StatsCube.ROW_STATS, (byte) -1);
+            size++;
+            return this;
+        }
+
+        private void grow() {
+            int capacity = season.length * 2;
+            season = Arrays.copyOf(season, capacity);
+            gameday = Arrays.copyOf(gameday, capacity);
+            date = Arrays.copyOf(date, capacity);
+            homeTeam = Arrays.copyOf(homeTeam, capacity);
+            awayTeam = Arrays.copyOf(awayTeam, capacity);
+            homeGoals = Arrays.copyOf(homeGoals, capacity);
+            awayGoals = Arrays.copyOf(awayGoals, capacity);
+            homeStats = Arrays.copyOf(homeStats, capacity * StatsCube.ROW_STATS);
+            awayStats = Arrays.copyOf(awayStats, capacity * StatsCube.ROW_STATS);
+        }
+
+        public MatchTable build() {
+            return new MatchTable(this);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.myapplication;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Index for browsing a MatchTable by season and gameday, built once with the table.
+// Holds the sorted seasons, the gamedays of every season and the rows of every
+// (season, gameday) in one flat array (CSR layout, as in MatchIndex), so selecting a
+// gameday is a slice lookup instead of a scan over all matches.
+public final class NavigationIndex {
+    // Gamedays are stored as bytes
+    private static final int GAMEDAY_SLOTS = Byte.MAX_VALUE + 1;
+
+    // rows[offsets[key] .. offsets[key + 1]) are the table rows of one (season, gameday), in table order
+    private final int[] offsets;
+    private final int[] rows;
+
+    // Season names from the latest to the oldest season, as shown in the spinners
+    private final List<String> seasonNamesLatestFirst;
+
+    // Ascending gamedays with at least one match, per season ID
+    private final List<List<Integer>> gamedays;
+
+    // Team names in alphabetical order
+    private final List<String> teamNames;
+
+    NavigationIndex(MatchTable table) {
+        int seasonCount = table.seasons.size();
+        int keyCount = seasonCount * GAMEDAY_SLOTS;
+
+        // Count rows per key, then turn the counts into start offsets
+        offsets = new int[keyCount + 1];
+        for (int i = 0; i < table.size; i++) {
+            offsets[key(table.season[i], table.gameday[i]) + 1]++;
+        }
+        for (int k = 0; k < keyCount; k++) {
+            offsets[k + 1] += offsets[k];
+        }
+
+        rows = new int[table.size];
+        int[] next = Arrays.copyOf(offsets, keyCount);
+        for (int i = 0; i < table.size; i++) {
+            rows[next[key(table.season[i], table.gameday[i])]++] = i;
+        }
+
+        // Gamedays of a season are the non-empty keys of that season
+        List<List<Integer>> perSeason = new ArrayList<>(seasonCount);
+        for (int season = 0; season < seasonCount; season++) {
+            List<Integer> days = new ArrayList<>();
+            for (int gameday = 0; gameday < GAMEDAY_SLOTS; gameday++) {
+                int key = key(season, gameday);
+                if (offsets[key + 1] > offsets[key]) days.add(gameday);
+            }
+            perSeason.add(Collections.unmodifiableList(days));
+        }
+        gamedays = perSeason;
+
+        List<String> seasonNames = new ArrayList<>(seasonCount);
+        for (int season : table.index.seasonsLatestFirst()) {
+            seasonNames.add(table.seasons.nameOf(season));
+        }
+        seasonNamesLatestFirst = Collections.unmodifiableList(seasonNames);
+
+        List<String> names = new ArrayList<>(table.teams.size());
+        for (int team = 0; team < table.teams.size(); team++) {
+            names.add(table.teams.nameOf(team));
+        }
+        Collections.sort(names);
+        teamNames = Collections.unmodifiableList(names);
+    }
+
+    private static int key(int season, int gameday) {
+        return season * GAMEDAY_SLOTS + gameday;
+    }
+
+    private static boolean isValid(int season, int gameday) {
+        return season != TeamDictionary.UNKNOWN && gameday >= 0 && gameday < GAMEDAY_SLOTS;
+    }
+
+    // Flat array of row numbers, read between start() and end()
+    public int[] rows() {
+        return rows;
+    }
+
+    // First position in rows() for the given season and gameday
+    public int start(int season, int gameday) {
+        return isValid(season, gameday) ? offsets[key(season, gameday)] : 0;
+    }
+
+    // Position after the last row in rows() for the given season and gameday
+    public int end(int season, int gameday) {
+        return isValid(season, gameday) ? offsets[key(season, gameday) + 1] : 0;
+    }
+
+    // Season names from the latest to the oldest season
+    public List<String> seasonNamesLatestFirst() {
+        return seasonNamesLatestFirst;
+    }
+
+    // Ascending gamedays played in the season, empty for an unknown season
+    public List<Integer> gamedaysOf(int season) {
+        return season != TeamDictionary.UNKNOWN ? gamedays.get(season) : Collections.<Integer>emptyList();
+    }
+
+    // Team names in alphabetical order
+    public List<String> teamNames() {
+        return teamNames;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.myapplication;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Bounded LRU cache of the predictions of one PredictionModel, keyed by gameday.
+// Every model owns its cache, so predictions can never leak between data sources or dataset
+// generations: a reloaded model starts empty and the old cache goes away with the old model.
+// FutureMatch objects are mutable, so the cache stores copies and hands out copies; callers on
+// different threads never share a result object.
+final class PredictionCache {
+    private final int maxEntries;
+    private final LinkedHashMap<Integer, List<FutureMatch>> entries;
+
+    PredictionCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        // Access order turns the map into an LRU list, the eldest entry is the least recently used one
+        this.entries = new LinkedHashMap<Integer, List<FutureMatch>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<FutureMatch>> eldest) {
+                return size() > PredictionCache.this.maxEntries;
+            }
+        };
+    }
+
+    // Copies of the cached predictions, or null if they have to be computed
+    List<FutureMatch> get(int gameday) {
+        List<FutureMatch> cached;
+        synchronized (this) {
+            cached = entries.get(gameday);
+        }
+        return cached != null ? copyOf(cached) : null;
+    }
+
+    // Stores copies of the predictions; later changes to the given objects do not reach the cache
+    void put(int gameday, List<FutureMatch> predictions) {
+        List<FutureMatch> copy = copyOf(predictions);
+        synchronized (this) {
+            entries.put(gameday, copy);
+        }
+    }
+
+    private static List<FutureMatch> copyOf(List<FutureMatch> predictions) {
+        List<FutureMatch> copy = new ArrayList<>(predictions.size());
+        for (FutureMatch match : predictions) {
+            copy.add(new FutureMatch(match));
+        }
+        return copy;
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.myapplication;
+
+// Import necessary libraries for Java functionality
+import java.util.*;
+import java.util.stream.Collectors;
+
+// Main class for predicting football match outcomes.
+// The engine only reads its immutable PredictionModel and every call builds fresh result objects,
+// so one engine can serve the UI and background threads at the same time.
+public final class PredictionEngine {
+    // Data all predictions are computed from
+    private final PredictionModel model;
+
+    // Shortcut into the model
+    private final MatchTable matchTable;
+
+    // Constructor to initialize the PredictionEngine with a loaded model
+    public PredictionEngine(PredictionModel model) {
+        this.model = model;
+        this.matchTable = model.table;
+    }
+
+    public PredictionModel getModel() {
+        return model;
+    }
+
+    // Method to get a list of available future gamedays
+    public List<String> getAvailableGamedays() {
+        // Only include future gamedays, the calendar already knows which gamedays have fixtures
+        List<Integer> gamedays = model.fixtures.gamedaysAfter(model.getCurrentGameday());
+
+        // Convert the gamedays to a sorted list of strings
+        return gamedays.stream()
+                .map(String::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    // Returns copies of the predictions for the gameday if they were already computed for this model, else null
+    public List<FutureMatch> getCachedPredictions(int selectedGameday) {
+        return model.predictions.get(selectedGameday);
+    }
+
+    // Method to calculate predictions for a selected gameday.
+    // Results are cached per gameday in the model; every call gets its own list and match objects.
+    public List<FutureMatch> calculatePredictions(int selectedGameday) {
+        List<FutureMatch> cached = getCachedPredictions(selectedGameday);
+        if (cached != null) {
+            return cached;
+        }
+        return predictGameday(selectedGameday);
+    }
+
+    // Predicts every remaining gameday (the ones of getAvailableGamedays()) in one pass, ordered by gameday.
+    // The team strengths are fitted once per model and shared by all fixtures; gamedays are predicted in parallel.
+    public SortedMap<Integer, List<FutureMatch>> calculateRemainingSeason() {
+        List<Integer> gamedays = model.fixtures.gamedaysAfter(model.getCurrentGameday());
+
+        List<List<FutureMatch>> predictions = gamedays.parallelStream()
+                .map(this::calculatePredictions)
+                .collect(Collectors.toList());
+
+        SortedMap<Integer, List<FutureMatch>> result = new TreeMap<>();
+        for (int i = 0; i < gamedays.size(); i++) {
+            result.put(gamedays.get(i), predictions.get(i));
+        }
+        return result;
+    }
+
+    // Computes and caches the predictions of one gameday, bypassing the cache lookup (used by the benchmarks)
+    List<FutureMatch> predictGameday(int selectedGameday) {
+        // Fresh match objects for the selected gameday, never shared with another call
+        List<FutureMatch> futureMatches = loadFutureMatches(selectedGameday);
+
+        // Team strengths from the matches before the gameday, one score matrix refilled for every fixture
+        GoalModel goals = model.goalsFor(selectedGameday);
+        ScoreMatrix matrix = new ScoreMatrix();
+        for (FutureMatch match : futureMatches) {
+            // Resolve team names once; unknown teams are treated as league average
+            int homeId = matchTable.teams.idOf(match.homeTeam);
+            int awayId = matchTable.teams.idOf(match.awayTeam);
+
+            // Scoreline probabilities from the fitted goal model, all markets are read from them
+            goals.scores(homeId, awayId, matrix);
+            updateMatchPredictions(match, matrix);
+
+            // Current form from the incrementally updated Elo ratings
+            match.homeRating = model.ratings.rating(match.homeTeam);
+            match.awayRating = model.ratings.rating(match.awayTeam);
+        }
+
+        // The cache keeps its own copies, the caller gets the objects computed here
+        model.predictions.put(selectedGameday, futureMatches);
+        return futureMatches;
+    }
+
+    // Helper method to create the future matches of a selected gameday
+    private List<FutureMatch> loadFutureMatches(int selectedGameday) {
+        // Fixtures of the selected gameday straight from the calendar index
+        List<FixtureCalendar.Fixture> fixtures = model.fixtures.fixturesOf(selectedGameday);
+        List<FutureMatch> futureMatches = new ArrayList<>(fixtures.size());
+        for (FixtureCalendar.Fixture fixture : fixtures) {
+            futureMatches.add(createFutureMatch(fixture));
+        }
+        return futureMatches;
+    }
+
+    // Helper method to create a FutureMatch object from a fixture
+    private FutureMatch createFutureMatch(FixtureCalendar.Fixture fixture) {
+        return new FutureMatch(
+                fixture.date,
+                model.fixtures.nameOf(fixture.homeTeam),
+                model.fixtures.nameOf(fixture.awayTeam)
+        );
+    }
+
+    // Method to update a FutureMatch object with the probabilities of its score matrix
+    private void updateMatchPredictions(FutureMatch match, ScoreMatrix matrix) {
+        // Set the home, draw, and away probabilities
+        match.homeProbability = matrix.homeWin();
+        match.drawProbability = matrix.draw();
+        match.awayProbability = matrix.awayWin();
+
+        // Set the expected goals for the match
+        match.homeExpectedGoals = matrix.homeExpectedGoals();
+        match.awayExpectedGoals = matrix.awayExpectedGoals();
+        match.totalAvgGoals = match.homeExpectedGoals + match.awayExpectedGoals;
+
+        // Set the goal markets
+        match.over15Probability = matrix.over(1.5);
+        match.over25Probability = matrix.over(2.5);
+        match.bothTeamsScoreProbability = matrix.bothTeamsScore();
+
+        // Set the most likely exact score
+        int[] score = matrix.mostLikelyScore();
+        match.likelyHomeGoals = score[0];
+        match.likelyAwayGoals = score[1];
+        match.likelyScoreProbability = matrix.exactScore(score[0], score[1]);
+    }
+}
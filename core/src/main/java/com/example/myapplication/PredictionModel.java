@@ -0,0 +1,85 @@
+package com.example.myapplication;
+
+import java.io.IOException;
+
+// Immutable snapshot of everything a prediction reads: the current season, the fixture calendar,
+// the match table of one dataset generation and the Elo ratings after it. All fields are final
+// and the referenced objects are never modified after loading, so one model can be shared by
+// any number of threads. Predictions computed from the model are cached with it; the cache is
+// synchronized and only ever holds results of this model.
+// Pure Java: models are loaded from a FixtureSource and a MatchSource.
+public final class PredictionModel {
+    // Gamedays whose predictions are kept per model
+    private static final int PREDICTION_CACHE_SIZE = 16;
+
+    final String season;           // Current season, e.g. "2024/2025"
+    final int seasonId;            // ID of the current season in table.seasons, UNKNOWN if not played yet
+    final FixtureCalendar fixtures;
+    final MatchTable table;
+    final GoalModel goals;         // Team strengths fitted from table, used for the upcoming gamedays
+    final EloRatings ratings;      // Private copy, never updated after loading
+    final long generation;         // MatchSource generation the table was taken from
+
+    // Predictions computed from this model by any engine
+    final PredictionCache predictions = new PredictionCache(PREDICTION_CACHE_SIZE);
+
+    PredictionModel(String season, FixtureCalendar fixtures, MatchTable table, long generation) {
+        this(season, fixtures, table, EloRatings.fromTable(table), generation);
+    }
+
+    PredictionModel(String season, FixtureCalendar fixtures, MatchTable table, EloRatings ratings, long generation) {
+        this.season = season;
+        this.seasonId = table.seasons.idOf(season);
+        this.fixtures = fixtures;
+        this.table = table;
+        this.goals = GoalModel.fit(table);
+        this.ratings = ratings;
+        this.generation = generation;
+    }
+
+    // Reads the fixtures and the matches; blocking, call off the UI thread
+    public static PredictionModel load(FixtureSource fixtureSource, MatchSource matchSource) throws IOException {
+        FixtureCalendar fixtures = fixtureSource.getFixtures();
+
+        // Read the generation first: if the data changes meanwhile, the model is merely reported stale
+        long generation = matchSource.getGeneration();
+        MatchTable table = matchSource.getTable();
+        return new PredictionModel(fixtures.season, fixtures, table, matchSource.getRatings(), generation);
+    }
+
+    // Model over an already loaded table and ratings, e.g. with a fallback calendar
+    public static PredictionModel of(FixtureCalendar fixtures, MatchTable table, EloRatings ratings, long generation) {
+        return new PredictionModel(fixtures.season, fixtures, table, ratings, generation);
+    }
+
+    // Goal model to predict the gameday of the current season with. Gamedays after the latest played
+    // one share the fit over the whole table; an already played gameday gets a fit over the matches
+    // before it, so its predictions never see its own or later results.
+    GoalModel goalsFor(int gameday) {
+        if (seasonId == TeamDictionary.UNKNOWN || gameday > getCurrentGameday()) {
+            return goals;
+        }
+        return GoalModel.fitBefore(table, seasonId, gameday);
+    }
+
+    // True if the source changed after this model was loaded from it
+    public boolean isStale(MatchSource matchSource) {
+        return generation != matchSource.getGeneration();
+    }
+
+    public String getSeason() {
+        return season;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    // Latest gameday of the current season with played matches, 0 before the season starts
+    public int getCurrentGameday() {
+        if (seasonId == TeamDictionary.UNKNOWN) {
+            return 0;
+        }
+        return table.getLatestGameday(seasonId);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.myapplication;
+
+// Probabilities of every scoreline from 0:0 to MAX_GOALS:MAX_GOALS for one fixture.
+// Home and away goals are Poisson distributed with the Dixon-Coles correction for the four
+// low scores (0:0, 1:0, 0:1, 1:1). The matrix is renormalised after the correction and the cut-off.
+//
+// A matrix is meant to be reused: fill() overwrites all cells without allocating, so one
+// instance per thread can compute a whole gameday. Instances are not thread-safe.
+public final class ScoreMatrix {
+    // Highest number of goals per team that is modelled; the tail beyond is negligible
+    public static final int MAX_GOALS = 10;
+    private static final int SIZE = MAX_GOALS + 1;
+
+    // ln(k!) for k = 0..MAX_GOALS
+    private static final double[] LOG_FACTORIAL = new double[SIZE];
+
+    static {
+        for (int k = 1; k < SIZE; k++) {
+            LOG_FACTORIAL[k] = LOG_FACTORIAL[k - 1] + Math.log(k);
+        }
+    }
+
+    // cells[home * SIZE + away] = P(home:away)
+    private final double[] cells = new double[SIZE * SIZE];
+    private final double[] homePmf = new double[SIZE];
+    private final double[] awayPmf = new double[SIZE];
+    private double homeExpected;
+    private double awayExpected;
+
+    // Fills the matrix for expected home goals lambda, expected away goals mu and Dixon-Coles rho
+    public ScoreMatrix fill(double lambda, double mu, double rho) {
+        homeExpected = lambda;
+        awayExpected = mu;
+        poisson(lambda, homePmf);
+        poisson(mu, awayPmf);
+
+        double total = 0;
+        for (int h = 0; h < SIZE; h++) {
+            int row = h * SIZE;
+            for (int a = 0; a < SIZE; a++) {
+                double p = homePmf[h] * awayPmf[a];
+                if (h <= 1 && a <= 1) {
+                    p *= tau(h, a, lambda, mu, rho);
+                }
+                cells[row + a] = p;
+                total += p;
+            }
+        }
+        if (total > 0) {
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] /= total;
+            }
+        }
+        return this;
+    }
+
+    // Dixon-Coles dependence factor for the low scores; never negative
+    static double tau(int home, int away, double lambda, double mu, double rho) {
+        double factor;
+        if (home == 0 && away == 0) factor = 1 - lambda * mu * rho;
+        else if (home == 0 && away == 1) factor = 1 + lambda * rho;
+        else if (home == 1 && away == 0) factor = 1 + mu * rho;
+        else if (home == 1 && away == 1) factor = 1 - rho;
+        else factor = 1;
+        return Math.max(0, factor);
+    }
+
+    // Poisson probabilities P(k) for k = 0..MAX_GOALS via the cached log factorials
+    private static void poisson(double rate, double[] out) {
+        if (rate <= 0) {
+            out[0] = 1;
+            for (int k = 1; k < SIZE; k++) out[k] = 0;
+            return;
+        }
+        double logRate = Math.log(rate);
+        for (int k = 0; k < SIZE; k++) {
+            out[k] = Math.exp(k * logRate - rate - LOG_FACTORIAL[k]);
+        }
+    }
+
+    public double homeExpectedGoals() {
+        return homeExpected;
+    }
+
+    public double awayExpectedGoals() {
+        return awayExpected;
+    }
+
+    public double exactScore(int home, int away) {
+        if (home < 0 || away < 0 || home > MAX_GOALS || away > MAX_GOALS) return 0;
+        return cells[home * SIZE + away];
+    }
+
+    public double homeWin() {
+        double sum = 0;
+        for (int h = 1; h < SIZE; h++) {
+            for (int a = 0; a < h; a++) sum += cells[h * SIZE + a];
+        }
+        return sum;
+    }
+
+    public double draw() {
+        double sum = 0;
+        for (int g = 0; g < SIZE; g++) sum += cells[g * SIZE + g];
+        return sum;
+    }
+
+    public double awayWin() {
+        double sum = 0;
+        for (int h = 0; h < SIZE; h++) {
+            for (int a = h + 1; a < SIZE; a++) sum += cells[h * SIZE + a];
+        }
+        return sum;
+    }
+
+    // Probability of more than line goals in total, e.g. over(2.5)
+    public double over(double line) {
+        double sum = 0;
+        for (int h = 0; h < SIZE; h++) {
+            for (int a = 0; a < SIZE; a++) {
+                if (h + a > line) sum += cells[h * SIZE + a];
+            }
+        }
+        return sum;
+    }
+
+    // Probability that both teams score at least once
+    public double bothTeamsScore() {
+        double sum = 0;
+        for (int h = 1; h < SIZE; h++) {
+            for (int a = 1; a < SIZE; a++) sum += cells[h * SIZE + a];
+        }
+        return sum;
+    }
+
+    // Most likely scoreline as {homeGoals, awayGoals}
+    public int[] mostLikelyScore() {
+        int best = 0;
+        for (int i = 1; i < cells.length; i++) {
+            if (cells[i] > cells[best]) best = i;
+        }
+        return new int[] {best / SIZE, best % SIZE};
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.myapplication;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Converts one football-data.co.uk season file into the row format of the merged dataset:
+// "Season,Gameday," followed by the columns of MatchSchema, whatever their order in the file.
+// Seasons are normalized independently, so several files can be processed in parallel.
+public final class SeasonNormalizer {
+    // Number of matches per Bundesliga gameday
+    private static final int MATCHES_PER_GAMEDAY = 9;
+
+    // Result of normalizing one file
+    public static final class Season {
+        public final String season;
+        public final String header; // MatchSchema.HEADER, the header of the merged dataset
+        public final List<String> rows; // Data rows including Season and Gameday
+
+        Season(String season, String header, List<String> rows) {
+            this.season = season;
+            this.header = header;
+            this.rows = rows;
+        }
+
+        // Gameday of the given row, rows are numbered in blocks of nine
+        public int gamedayOf(int row) {
+            return row / MATCHES_PER_GAMEDAY + 1;
+        }
+    }
+
+    private SeasonNormalizer() {
+    }
+
+    // Season label such as "2015/2016" for a football-data URL such as ".../mmz4281/1516/D1.csv"
+    public static String seasonForUrl(String url) {
+        String[] parts = url.split("/");
+        String code = parts[parts.length - 2];
+        int startYear = 2000 + Integer.parseInt(code.substring(0, 2));
+        return startYear + "/" + (startYear + 1);
+    }
+
+    // Reads one season file, numbering gamedays by blocks of nine matches in file order.
+    // Columns are looked up by header name and only the ones of MatchSchema are kept.
+    public static Season normalize(String season, BufferedReader reader) throws IOException {
+        CsvTokenizer csv = new CsvTokenizer(reader);
+        if (!csv.nextRecord()) {
+            return new Season(season, MatchSchema.HEADER, new ArrayList<>());
+        }
+
+        int[] columns = MatchSchema.resolve(csv);
+        csv.project(columns);
+        int homeTeam = columns[MatchSchema.HOME_TEAM];
+
+        List<String> rows = new ArrayList<>();
+        StringBuilder row = new StringBuilder(128);
+        while (csv.nextRecord()) {
+            if (csv.isBlank(homeTeam)) continue; // Skip blank and padding rows
+
+            int gameday = rows.size() / MATCHES_PER_GAMEDAY + 1;
+            row.setLength(0);
+            row.append(season).append(',').append(gameday);
+            MatchSchema.appendRow(csv, columns, MatchSchema.FIRST_SOURCE_COLUMN, row);
+            rows.add(row.toString());
+        }
+        return new Season(season, MatchSchema.HEADER, rows);
+    }
+}
@@ -0,0 +1,368 @@
+package com.example.myapplication;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Monte Carlo simulation of the remaining season of a PredictionModel.
+//
+// Every remaining fixture gets the cumulative distribution of its ScoreMatrix once; a simulated
+// match then costs one random number and a binary search over the 121 scorelines. Standings are
+// plain int arrays starting from the current table, and the final positions are ranked like
+// Standings: points, goal difference, goals scored (remaining ties keep the calendar order).
+//
+// The simulations are split into chunks of CHUNK_SIZE. Each chunk draws from its own
+// SplittableRandom split off the seed, so the result only depends on the seed and not on the
+// number of threads. Worker threads pull chunks, count positions into their own arrays and
+// merge them after every chunk; the listener then receives the merged intermediate Result.
+public final class SeasonSimulator {
+    static final int CHUNK_SIZE = 2000;
+
+    // Places at the top and bottom of the final table that are reported separately
+    public static final int CHAMPIONS_LEAGUE_PLACES = 4;
+    public static final int RELEGATION_PLACES = 2;   // Directly relegated
+    public static final int PLAYOFF_PLACES = 1;      // Relegation play-off, directly above them
+
+    private static final int CELLS = (ScoreMatrix.MAX_GOALS + 1) * (ScoreMatrix.MAX_GOALS + 1);
+
+    // Receives intermediate results while the simulation runs. Called on a worker thread
+    // while the totals are locked, so it should only hand the result over (e.g. post it).
+    public interface ProgressListener {
+        void onProgress(Result partial);
+    }
+
+    private final String[] teamNames;
+    // Standings after the last played gameday, indexed like teamNames
+    private final int[] startPoints;
+    private final int[] startGoalsFor;
+    private final int[] startGoalsAgainst;
+    // Remaining fixtures and the cumulative scoreline distribution of each
+    private final int[] homeTeam;
+    private final int[] awayTeam;
+    private final double[][] scoreDistribution;
+
+    private volatile boolean cancelled;
+
+    public SeasonSimulator(PredictionModel model) {
+        FixtureCalendar calendar = model.fixtures;
+        MatchTable table = model.table;
+        int teamCount = calendar.teams.size();
+
+        teamNames = new String[teamCount];
+        startPoints = new int[teamCount];
+        startGoalsFor = new int[teamCount];
+        startGoalsAgainst = new int[teamCount];
+        int[] tableIds = new int[teamCount];
+        int gameday = model.getCurrentGameday();
+        CumulativeStats cumulative = table.cumulative;
+        for (int team = 0; team < teamCount; team++) {
+            teamNames[team] = calendar.nameOf(team);
+            // Unknown teams and seasons without matches start from zero
+            tableIds[team] = table.teams.idOf(teamNames[team]);
+            startPoints[team] = cumulative.total(model.seasonId, tableIds[team], gameday, CumulativeStats.POINTS);
+            startGoalsFor[team] = cumulative.total(model.seasonId, tableIds[team], gameday, CumulativeStats.GOALS_FOR);
+            startGoalsAgainst[team] = cumulative.total(model.seasonId, tableIds[team], gameday, CumulativeStats.GOALS_AGAINST);
+        }
+
+        List<FixtureCalendar.Fixture> remaining = unplayedFixtures(calendar, table, model.seasonId, tableIds);
+        homeTeam = new int[remaining.size()];
+        awayTeam = new int[remaining.size()];
+        scoreDistribution = new double[remaining.size()][];
+        ScoreMatrix matrix = new ScoreMatrix();
+        for (int i = 0; i < remaining.size(); i++) {
+            FixtureCalendar.Fixture fixture = remaining.get(i);
+            homeTeam[i] = fixture.homeTeam;
+            awayTeam[i] = fixture.awayTeam;
+            model.goals.scores(tableIds[fixture.homeTeam], tableIds[fixture.awayTeam], matrix);
+            scoreDistribution[i] = cumulativeDistribution(matrix);
+        }
+    }
+
+    // Fixtures of the calendar without a result in the table, ordered by gameday. This includes postponed
+    // fixtures of gamedays that are otherwise played. Each played (home, away) match of the season
+    // accounts for the first calendar fixture of that pairing that is not accounted for yet.
+    private static List<FixtureCalendar.Fixture> unplayedFixtures(FixtureCalendar calendar, MatchTable table,
+                                                                  int season, int[] tableIds) {
+        int tableTeams = table.teams.size();
+        int[] played = new int[tableTeams * tableTeams];
+        for (int i = 0; i < table.size; i++) {
+            if (table.season[i] == season) {
+                played[table.homeTeam[i] * tableTeams + table.awayTeam[i]]++;
+            }
+        }
+
+        List<FixtureCalendar.Fixture> remaining = new ArrayList<>();
+        for (FixtureCalendar.Fixture fixture : calendar.fixturesAfter(0)) {
+            int home = tableIds[fixture.homeTeam];
+            int away = tableIds[fixture.awayTeam];
+            if (home != TeamDictionary.UNKNOWN && away != TeamDictionary.UNKNOWN && played[home * tableTeams + away] > 0) {
+                played[home * tableTeams + away]--;
+            } else {
+                remaining.add(fixture);
+            }
+        }
+        return remaining;
+    }
+
+    // cumulative[c] = P(scoreline index <= c) with index = homeGoals * (MAX_GOALS + 1) + awayGoals
+    private static double[] cumulativeDistribution(ScoreMatrix matrix) {
+        double[] cumulative = new double[CELLS];
+        double sum = 0;
+        for (int c = 0; c < CELLS; c++) {
+            sum += matrix.exactScore(c / (ScoreMatrix.MAX_GOALS + 1), c % (ScoreMatrix.MAX_GOALS + 1));
+            cumulative[c] = sum;
+        }
+        cumulative[CELLS - 1] = Double.POSITIVE_INFINITY; // Rounding must never let a draw fall off the end
+        return cumulative;
+    }
+
+    public int getRemainingMatches() {
+        return homeTeam.length;
+    }
+
+    // Stops a running simulation after the current chunk; run() then returns the partial result
+    public void cancel() {
+        cancelled = true;
+    }
+
+    // Plays the remaining season the given number of times on the given number of threads
+    public Result run(int simulations, int threads, long seed, ProgressListener listener)
+            throws InterruptedException, ExecutionException {
+        int chunks = (simulations + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        // Split on this thread, SplittableRandom itself is not thread-safe
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] chunkRandoms = new SplittableRandom[chunks];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            chunkRandoms[chunk] = root.split();
+        }
+
+        Totals totals = new Totals(teamNames.length);
+        AtomicInteger nextChunk = new AtomicInteger();
+        int workers = Math.max(1, Math.min(threads, chunks));
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < workers; w++) {
+                futures.add(executor.submit(() -> {
+                    Worker worker = new Worker();
+                    int chunk;
+                    while (!cancelled && (chunk = nextChunk.getAndIncrement()) < chunks) {
+                        int count = Math.min(CHUNK_SIZE, simulations - chunk * CHUNK_SIZE);
+                        worker.simulate(chunkRandoms[chunk], count);
+                        totals.merge(worker, count, listener);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return totals.snapshot();
+    }
+
+    // Per-thread state: standings of the current simulation and positions counted since the last merge
+    private final class Worker {
+        final int[] points = new int[teamNames.length];
+        final int[] goalsFor = new int[teamNames.length];
+        final int[] goalsAgainst = new int[teamNames.length];
+        final long[] rankKey = new long[teamNames.length];
+        final int[] order = new int[teamNames.length];
+        // positionCounts[team * teamCount + position] with position 0 = first place
+        final long[] positionCounts = new long[teamNames.length * teamNames.length];
+        final long[] pointsSum = new long[teamNames.length];
+
+        void simulate(SplittableRandom random, int count) {
+            int teamCount = teamNames.length;
+            for (int s = 0; s < count; s++) {
+                System.arraycopy(startPoints, 0, points, 0, teamCount);
+                System.arraycopy(startGoalsFor, 0, goalsFor, 0, teamCount);
+                System.arraycopy(startGoalsAgainst, 0, goalsAgainst, 0, teamCount);
+
+                for (int i = 0; i < homeTeam.length; i++) {
+                    int cell = sample(scoreDistribution[i], random.nextDouble());
+                    int homeGoals = cell / (ScoreMatrix.MAX_GOALS + 1);
+                    int awayGoals = cell % (ScoreMatrix.MAX_GOALS + 1);
+                    int home = homeTeam[i];
+                    int away = awayTeam[i];
+                    goalsFor[home] += homeGoals;
+                    goalsAgainst[home] += awayGoals;
+                    goalsFor[away] += awayGoals;
+                    goalsAgainst[away] += homeGoals;
+                    if (homeGoals > awayGoals) {
+                        points[home] += 3;
+                    } else if (homeGoals < awayGoals) {
+                        points[away] += 3;
+                    } else {
+                        points[home]++;
+                        points[away]++;
+                    }
+                }
+
+                rank();
+                for (int position = 0; position < teamCount; position++) {
+                    positionCounts[order[position] * teamCount + position]++;
+                }
+                for (int team = 0; team < teamCount; team++) {
+                    pointsSum[team] += points[team];
+                }
+            }
+        }
+
+        // Sorts the teams into order by points, goal difference and goals scored, best first.
+        // Insertion sort on one packed key: no allocation and fast for 18 teams.
+        private void rank() {
+            int teamCount = teamNames.length;
+            for (int team = 0; team < teamCount; team++) {
+                int goalDifference = goalsFor[team] - goalsAgainst[team];
+                rankKey[team] = ((long) points[team] << 32) | ((long) (goalDifference + 0x8000) << 16) | goalsFor[team];
+                int j = team;
+                while (j > 0 && rankKey[order[j - 1]] < rankKey[team]) {
+                    order[j] = order[j - 1];
+                    j--;
+                }
+                order[j] = team;
+            }
+        }
+    }
+
+    // Smallest index whose cumulative probability exceeds u
+    private static int sample(double[] cumulative, double u) {
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] > u) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // Totals of all merged chunks
+    private final class Totals {
+        private final long[] positionCounts;
+        private final long[] pointsSum;
+        private int simulations;
+
+        Totals(int teamCount) {
+            positionCounts = new long[teamCount * teamCount];
+            pointsSum = new long[teamCount];
+        }
+
+        synchronized void merge(Worker worker, int count, ProgressListener listener) {
+            for (int i = 0; i < positionCounts.length; i++) {
+                positionCounts[i] += worker.positionCounts[i];
+                worker.positionCounts[i] = 0;
+            }
+            for (int i = 0; i < pointsSum.length; i++) {
+                pointsSum[i] += worker.pointsSum[i];
+                worker.pointsSum[i] = 0;
+            }
+            simulations += count;
+            if (listener != null) {
+                listener.onProgress(snapshot());
+            }
+        }
+
+        synchronized Result snapshot() {
+            return new Result(teamNames, simulations, positionCounts.clone(), pointsSum.clone());
+        }
+    }
+
+    // Final-position distribution after a number of simulations; immutable
+    public static final class Result {
+        private final String[] teams;
+        private final int simulations;
+        private final long[] positionCounts;
+        private final long[] pointsSum;
+
+        Result(String[] teams, int simulations, long[] positionCounts, long[] pointsSum) {
+            this.teams = teams;
+            this.simulations = simulations;
+            this.positionCounts = positionCounts;
+            this.pointsSum = pointsSum;
+        }
+
+        public int getSimulations() {
+            return simulations;
+        }
+
+        public int getTeamCount() {
+            return teams.length;
+        }
+
+        public String getTeam(int team) {
+            return teams[team];
+        }
+
+        // Probability that the team finishes in one of the places from..to (1 = first place)
+        public double probability(int team, int fromPlace, int toPlace) {
+            if (simulations == 0) return 0;
+            long count = 0;
+            for (int place = Math.max(1, fromPlace); place <= Math.min(teams.length, toPlace); place++) {
+                count += positionCounts[team * teams.length + place - 1];
+            }
+            return (double) count / simulations;
+        }
+
+        public double titleProbability(int team) {
+            return probability(team, 1, 1);
+        }
+
+        public double championsLeagueProbability(int team) {
+            return probability(team, 1, CHAMPIONS_LEAGUE_PLACES);
+        }
+
+        public double playoffProbability(int team) {
+            int firstPlayoffPlace = teams.length - RELEGATION_PLACES - PLAYOFF_PLACES + 1;
+            return probability(team, firstPlayoffPlace, teams.length - RELEGATION_PLACES);
+        }
+
+        public double relegationProbability(int team) {
+            return probability(team, teams.length - RELEGATION_PLACES + 1, teams.length);
+        }
+
+        public double expectedPoints(int team) {
+            return simulations == 0 ? 0 : (double) pointsSum[team] / simulations;
+        }
+
+        public double expectedPlace(int team) {
+            if (simulations == 0) return 0;
+            double sum = 0;
+            for (int place = 1; place <= teams.length; place++) {
+                sum += place * (double) positionCounts[team * teams.length + place - 1];
+            }
+            return sum / simulations;
+        }
+
+        // Largest standard error of any single place probability, shrinks with 1 / sqrt(simulations)
+        public double maxStandardError() {
+            if (simulations == 0) return 1;
+            double max = 0;
+            for (long count : positionCounts) {
+                double p = (double) count / simulations;
+                max = Math.max(max, Math.sqrt(p * (1 - p) / simulations));
+            }
+            return max;
+        }
+
+        // Team indexes ordered by expected final place, best first
+        public List<Integer> teamsByExpectedPlace() {
+            List<Integer> order = new ArrayList<>();
+            for (int team = 0; team < teams.length; team++) {
+                order.add(team);
+            }
+            order.sort((a, b) -> Double.compare(expectedPlace(a), expectedPlace(b)));
+            return order;
+        }
+    }
+}
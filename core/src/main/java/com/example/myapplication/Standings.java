@@ -0,0 +1,59 @@
+package com.example.myapplication;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+// League table of one season after a gameday, read from the CumulativeStats prefix sums.
+// Teams are ordered by points, goal difference and goals scored; teams that are still level
+// keep ascending team ID order.
+public final class Standings {
+
+    // Order of the table, best team first
+    public static final Comparator<Entry> ORDER = Comparator.comparingInt((Entry team) -> team.points)
+            .thenComparingInt(team -> team.goalDifference)
+            .thenComparingInt(team -> team.goalsScored)
+            .reversed();
+
+    // One row of the table
+    public static final class Entry {
+        public final String teamName;
+        public final int gamesPlayed;
+        public final int points;
+        public final int goalsScored;
+        public final int goalsConceded;
+        public final int goalDifference;
+
+        Entry(String teamName, int gamesPlayed, int points, int goalsScored, int goalsConceded) {
+            this.teamName = teamName;
+            this.gamesPlayed = gamesPlayed;
+            this.points = points;
+            this.goalsScored = goalsScored;
+            this.goalsConceded = goalsConceded;
+            this.goalDifference = goalsScored - goalsConceded;
+        }
+    }
+
+    private Standings() {
+    }
+
+    // Sorted table of the season including all matches up to the gameday; teams without a match are left out
+    public static List<Entry> calculate(MatchTable matches, int season, int gameday) {
+        // Running totals up to the gameday, no loop over the matches
+        CumulativeStats cumulative = matches.cumulative;
+
+        List<Entry> standings = new ArrayList<>();
+        for (int team : cumulative.teamsOf(season)) {
+            int gamesPlayed = cumulative.total(season, team, gameday, CumulativeStats.GAMES);
+            if (gamesPlayed == 0) continue; // Team has not played up to this gameday
+
+            standings.add(new Entry(matches.teams.nameOf(team), gamesPlayed,
+                    cumulative.total(season, team, gameday, CumulativeStats.POINTS),
+                    cumulative.total(season, team, gameday, CumulativeStats.GOALS_FOR),
+                    cumulative.total(season, team, gameday, CumulativeStats.GOALS_AGAINST)));
+        }
+        Collections.sort(standings, ORDER);
+        return standings;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.myapplication;
+
+// Statistics of every team per season, built once with the table from the football-data
+// columns (shots, shots on target, corners, fouls, cards, half-time goals) and the goals.
+// Totals are kept per (season, team, side, metric) for and against the team, so a season
+// view is an array lookup. Prefix sums along each team's TeamTimeline make the total of the
+// last N games a lookup as well. Matches without a value for a metric are not counted for it.
+public final class StatsCube {
+    // Metrics; the first ROW_STATS are stored per row in MatchTable
+    public static final int SHOTS = 0;
+    public static final int SHOTS_ON_TARGET = 1;
+    public static final int CORNERS = 2;
+    public static final int FOULS = 3;
+    public static final int YELLOW_CARDS = 4;
+    public static final int RED_CARDS = 5;
+    public static final int HALF_TIME_GOALS = 6;
+    public static final int GOALS = 7;
+    static final int ROW_STATS = 7;
+    public static final int METRIC_COUNT = 8;
+
+    // Perspective of a value: the team's own statistic or its opponents'
+    public static final int FOR = 0;
+    public static final int AGAINST = 1;
+
+    // Values per metric: for, against and the number of matches that had the metric
+    private static final int SAMPLES = 2;
+    private static final int STRIDE = METRIC_COUNT * 3;
+
+    private final MatchTable table;
+    private final int teamCount;
+
+    // [((season * teamCount + team) * 2 + side) * STRIDE + metric * 3 + FOR/AGAINST/SAMPLES]
+    private final int[] totals;
+
+    // Matches per (season, team, side)
+    private final int[] games;
+
+    // Running totals along the timeline: the values before timeline position p of a team are
+    // at (p + team) * STRIDE, so every team's slice has one leading entry of zeros
+    private final int[] prefix;
+
+    StatsCube(MatchTable table) {
+        this.table = table;
+        this.teamCount = table.teams.size();
+        int seasonCount = table.seasons.size();
+        totals = new int[seasonCount * teamCount * 2 * STRIDE];
+        games = new int[seasonCount * teamCount * 2];
+
+        int[] values = new int[STRIDE];
+        for (int i = 0; i < table.size; i++) {
+            for (int side = MatchIndex.HOME; side <= MatchIndex.AWAY; side++) {
+                int team = side == MatchIndex.HOME ? table.homeTeam[i] : table.awayTeam[i];
+                int key = (table.season[i] * teamCount + team) * 2 + side;
+                games[key]++;
+                rowValues(i, side, values);
+                int base = key * STRIDE;
+                for (int v = 0; v < STRIDE; v++) {
+                    totals[base + v] += values[v];
+                }
+            }
+        }
+
+        TeamTimeline timeline = table.timeline;
+        int[] rows = timeline.rows();
+        prefix = new int[(rows.length + teamCount) * STRIDE];
+        for (int team = 0; team < teamCount; team++) {
+            for (int position = timeline.start(team); position < timeline.end(team); position++) {
+                int row = rows[position];
+                rowValues(row, table.homeTeam[row] == team ? MatchIndex.HOME : MatchIndex.AWAY, values);
+                int before = (position + team) * STRIDE;
+                int after = before + STRIDE;
+                for (int v = 0; v < STRIDE; v++) {
+                    prefix[after + v] = prefix[before + v] + values[v];
+                }
+            }
+        }
+    }
+
+    // Fills for, against and sample count of every metric of one row, seen from the given side
+    private void rowValues(int row, int side, int[] values) {
+        byte[] own = side == MatchIndex.HOME ? table.homeStats : table.awayStats;
+        byte[] opponent = side == MatchIndex.HOME ? table.awayStats : table.homeStats;
+        for (int stat = 0; stat < ROW_STATS; stat++) {
+            int ownValue = own[row * ROW_STATS + stat];
+            int opponentValue = opponent[row * ROW_STATS + stat];
+            boolean known = ownValue >= 0 && opponentValue >= 0;
+            values[stat * 3 + FOR] = known ? ownValue : 0;
+            values[stat * 3 + AGAINST] = known ? opponentValue : 0;
+            values[stat * 3 + SAMPLES] = known ? 1 : 0;
+        }
+        boolean home = side == MatchIndex.HOME;
+        values[GOALS * 3 + FOR] = home ? table.homeGoals[row] : table.awayGoals[row];
+        values[GOALS * 3 + AGAINST] = home ? table.awayGoals[row] : table.homeGoals[row];
+        values[GOALS * 3 + SAMPLES] = 1;
+    }
+
+    private static boolean isValid(int id) {
+        return id != TeamDictionary.UNKNOWN;
+    }
+
+    private int base(int season, int team, int side) {
+        return ((season * teamCount + team) * 2 + side) * STRIDE;
+    }
+
+    // Season total of a metric on one side (MatchIndex.HOME or AWAY), FOR or AGAINST the team
+    public int total(int season, int team, int side, int metric, int perspective) {
+        return isValid(season) && isValid(team) ? totals[base(season, team, side) + metric * 3 + perspective] : 0;
+    }
+
+    // Season total of a metric over home and away matches
+    public int total(int season, int team, int metric, int perspective) {
+        return total(season, team, MatchIndex.HOME, metric, perspective)
+                + total(season, team, MatchIndex.AWAY, metric, perspective);
+    }
+
+    // Matches of the season on one side that have a value for the metric
+    public int samples(int season, int team, int side, int metric) {
+        return isValid(season) && isValid(team) ? totals[base(season, team, side) + metric * 3 + SAMPLES] : 0;
+    }
+
+    public int samples(int season, int team, int metric) {
+        return samples(season, team, MatchIndex.HOME, metric) + samples(season, team, MatchIndex.AWAY, metric);
+    }
+
+    // Matches of the season on one side
+    public int games(int season, int team, int side) {
+        return isValid(season) && isValid(team) ? games[(season * teamCount + team) * 2 + side] : 0;
+    }
+
+    // Average per match on one side, 0 without samples
+    public double average(int season, int team, int side, int metric, int perspective) {
+        int samples = samples(season, team, side, metric);
+        return samples > 0 ? (double) total(season, team, side, metric, perspective) / samples : 0;
+    }
+
+    // Average per match over home and away matches, 0 without samples
+    public double average(int season, int team, int metric, int perspective) {
+        int samples = samples(season, team, metric);
+        return samples > 0 ? (double) total(season, team, metric, perspective) / samples : 0;
+    }
+
+    // Total of a metric over the team's count matches before timeline position end
+    public int windowTotal(int team, int end, int count, int metric, int perspective) {
+        return windowValue(team, end, count, metric * 3 + perspective);
+    }
+
+    // Matches in the window that have a value for the metric
+    public int windowSamples(int team, int end, int count, int metric) {
+        return windowValue(team, end, count, metric * 3 + SAMPLES);
+    }
+
+    // Average over the team's count matches before timeline position end, 0 without samples
+    public double windowAverage(int team, int end, int count, int metric, int perspective) {
+        int samples = windowSamples(team, end, count, metric);
+        return samples > 0 ? (double) windowTotal(team, end, count, metric, perspective) / samples : 0;
+    }
+
+    // Average over the team's last count matches
+    public double recentAverage(int team, int count, int metric, int perspective) {
+        return windowAverage(team, table.timeline.end(team), count, metric, perspective);
+    }
+
+    private int windowValue(int team, int end, int count, int value) {
+        if (!isValid(team)) return 0;
+        int start = Math.max(table.timeline.start(team), end - count);
+        return prefix[(end + team) * STRIDE + value] - prefix[(start + team) * STRIDE + value];
+    }
+}
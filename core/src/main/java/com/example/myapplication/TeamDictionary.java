@@ -0,0 +1,41 @@
+package com.example.myapplication;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Interns names (teams, seasons) to dense int IDs so that hot loops compare ints instead of strings.
+// IDs are handed out in order of first appearance, starting at 0.
+public final class TeamDictionary {
+    // Returned by idOf() for names that were never interned
+    public static final int UNKNOWN = -1;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    // Returns the ID of the given name, assigning a new one if necessary
+    public int intern(String name) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = names.size();
+            ids.put(name, id);
+            names.add(name);
+        }
+        return id;
+    }
+
+    // Returns the ID of the given name or UNKNOWN
+    public int idOf(String name) {
+        Integer id = ids.get(name);
+        return id != null ? id : UNKNOWN;
+    }
+
+    public String nameOf(int id) {
+        return names.get(id);
+    }
+
+    public int size() {
+        return names.size();
+    }
+}
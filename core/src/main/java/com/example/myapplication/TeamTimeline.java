@@ -0,0 +1,190 @@
+package com.example.myapplication;
+
+// Matches of every team in chronological order, by (season, gameday, date).
+// Row numbers are stored per team in one flat array (CSR layout, as in MatchIndex) with an
+// extra offset per (team, season), so the last N games, the form and the totals of a season
+// only read the rows they report on.
+public final class TeamTimeline {
+
+    // Totals over a slice of one team's timeline, from the team's point of view
+    public static final class Summary {
+        public final int games;
+        public final int wins;
+        public final int draws;
+        public final int losses;
+        public final int goalsFor;
+        public final int goalsAgainst;
+        public final int biggestWin;  // Largest winning margin, 0 without a win
+
+        Summary(int games, int wins, int draws, int losses, int goalsFor, int goalsAgainst, int biggestWin) {
+            this.games = games;
+            this.wins = wins;
+            this.draws = draws;
+            this.losses = losses;
+            this.goalsFor = goalsFor;
+            this.goalsAgainst = goalsAgainst;
+            this.biggestWin = biggestWin;
+        }
+    }
+
+    private final MatchTable table;
+    private final int seasonCount;
+
+    // Season ID -> position in chronological season order
+    private final int[] seasonRank;
+
+    // rows[offsets[team] .. offsets[team + 1]) are the matches of one team, oldest first
+    private final int[] offsets;
+    private final int[] rows;
+
+    // Start of every season within a team's slice, indexed by team * (seasonCount + 1) + season rank;
+    // the entry after the last season is the end of the slice
+    private final int[] seasonOffsets;
+
+    TeamTimeline(MatchTable table) {
+        this.table = table;
+        int teamCount = table.teams.size();
+        this.seasonCount = table.seasons.size();
+
+        // Season names sort chronologically ("2015/2016" < "2016/2017")
+        int[] latestFirst = table.index.seasonsLatestFirst();
+        seasonRank = new int[seasonCount];
+        for (int k = 0; k < seasonCount; k++) {
+            seasonRank[latestFirst[k]] = seasonCount - 1 - k;
+        }
+
+        // Count matches per team, then turn the counts into start offsets
+        offsets = new int[teamCount + 1];
+        for (int i = 0; i < table.size; i++) {
+            offsets[table.homeTeam[i] + 1]++;
+            offsets[table.awayTeam[i] + 1]++;
+        }
+        for (int team = 0; team < teamCount; team++) {
+            offsets[team + 1] += offsets[team];
+        }
+
+        rows = new int[table.size * 2];
+        int[] next = new int[teamCount];
+        System.arraycopy(offsets, 0, next, 0, teamCount);
+        for (int i = 0; i < table.size; i++) {
+            rows[next[table.homeTeam[i]]++] = i;
+            rows[next[table.awayTeam[i]]++] = i;
+        }
+
+        seasonOffsets = new int[teamCount * (seasonCount + 1)];
+        for (int team = 0; team < teamCount; team++) {
+            sortChronologically(offsets[team], offsets[team + 1]);
+
+            int position = offsets[team];
+            for (int rank = 0; rank <= seasonCount; rank++) {
+                while (position < offsets[team + 1] && seasonRank[table.season[rows[position]]] < rank) {
+                    position++;
+                }
+                seasonOffsets[team * (seasonCount + 1) + rank] = position;
+            }
+        }
+    }
+
+    // The file is chronological apart from postponed matches, so a stable insertion sort is close to linear
+    private void sortChronologically(int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int row = rows[i];
+            long key = orderKey(row);
+            int j = i - 1;
+            while (j >= from && orderKey(rows[j]) > key) {
+                rows[j + 1] = rows[j];
+                j--;
+            }
+            rows[j + 1] = row;
+        }
+    }
+
+    private long orderKey(int row) {
+        return ((long) (seasonRank[table.season[row]] * (Byte.MAX_VALUE + 1) + table.gameday[row]) << 32)
+                | table.date[row];
+    }
+
+    private static boolean isValid(int id) {
+        return id != TeamDictionary.UNKNOWN;
+    }
+
+    // Flat array of row numbers, read between start() and end()
+    public int[] rows() {
+        return rows;
+    }
+
+    // Position of the team's first match in rows()
+    public int start(int team) {
+        return isValid(team) ? offsets[team] : 0;
+    }
+
+    // Position after the team's latest match in rows()
+    public int end(int team) {
+        return isValid(team) ? offsets[team + 1] : 0;
+    }
+
+    // Position of the team's first match of the season in rows()
+    public int seasonStart(int team, int season) {
+        return isValid(team) && isValid(season) ? seasonOffsets[team * (seasonCount + 1) + seasonRank[season]] : 0;
+    }
+
+    // Position after the team's last match of the season in rows()
+    public int seasonEnd(int team, int season) {
+        return isValid(team) && isValid(season) ? seasonOffsets[team * (seasonCount + 1) + seasonRank[season] + 1] : 0;
+    }
+
+    // Position of the first of the team's last count matches; the slice ends at end(team)
+    public int lastGamesStart(int team, int count) {
+        return Math.max(start(team), end(team) - count);
+    }
+
+    // 'W', 'D' or 'L' for the match in the given table row, from the team's point of view
+    public char resultOf(int team, int row) {
+        int difference = goalsFor(team, row) - goalsAgainst(team, row);
+        return difference > 0 ? 'W' : difference == 0 ? 'D' : 'L';
+    }
+
+    // Results of the team's last count matches, oldest first, e.g. "WWDLW"
+    public String form(int team, int count) {
+        int end = end(team);
+        StringBuilder form = new StringBuilder(count);
+        for (int position = lastGamesStart(team, count); position < end; position++) {
+            form.append(resultOf(team, rows[position]));
+        }
+        return form.toString();
+    }
+
+    public int goalsFor(int team, int row) {
+        return table.homeTeam[row] == team ? table.homeGoals[row] : table.awayGoals[row];
+    }
+
+    public int goalsAgainst(int team, int row) {
+        return table.homeTeam[row] == team ? table.awayGoals[row] : table.homeGoals[row];
+    }
+
+    // Totals of the team's matches in the season
+    public Summary seasonSummary(int team, int season) {
+        return summarize(team, seasonStart(team, season), seasonEnd(team, season));
+    }
+
+    // Totals of the matches between two positions of the team's slice
+    public Summary summarize(int team, int from, int to) {
+        int wins = 0, draws = 0, losses = 0, goalsFor = 0, goalsAgainst = 0, biggestWin = 0;
+        for (int position = from; position < to; position++) {
+            int row = rows[position];
+            int scored = goalsFor(team, row);
+            int conceded = goalsAgainst(team, row);
+            goalsFor += scored;
+            goalsAgainst += conceded;
+            if (scored > conceded) {
+                wins++;
+                biggestWin = Math.max(biggestWin, scored - conceded);
+            } else if (scored == conceded) {
+                draws++;
+            } else {
+                losses++;
+            }
+        }
+        return new Summary(to - from, wins, draws, losses, goalsFor, goalsAgainst, biggestWin);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.myapplication;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that AtomicFiles replaces files as a whole and leaves them untouched on failure.
+ */
+public class AtomicFilesTest {
+    private File directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = File.createTempFile("atomic", "");
+        assertTrue(directory.delete() && directory.mkdir());
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Test
+    public void write_replacesExistingFile() throws IOException {
+        File target = new File(directory, "data.csv");
+        AtomicFiles.write(target, out -> out.write("old\n".getBytes("UTF-8")));
+        AtomicFiles.write(target, out -> out.write("new\n".getBytes("UTF-8")));
+
+        assertEquals("new\n", read(target));
+        assertFalse(new File(target.getPath() + ".tmp").exists());
+    }
+
+    @Test
+    public void append_keepsExistingContent() throws IOException {
+        File target = new File(directory, "data.csv");
+        AtomicFiles.append(target, out -> out.write("header\n".getBytes("UTF-8")));
+        AtomicFiles.append(target, out -> out.write("row\n".getBytes("UTF-8")));
+
+        assertEquals("header\nrow\n", read(target));
+    }
+
+    @Test
+    public void write_failureLeavesTargetUntouched() throws IOException {
+        File target = new File(directory, "data.csv");
+        AtomicFiles.write(target, out -> out.write("complete\n".getBytes("UTF-8")));
+
+        try {
+            AtomicFiles.write(target, out -> {
+                out.write("partial".getBytes("UTF-8"));
+                throw new IOException("connection lost");
+            });
+            fail("expected IOException");
+        } catch (IOException expected) {
+            // expected
+        }
+
+        assertEquals("complete\n", read(target));
+        assertFalse(new File(target.getPath() + ".tmp").exists());
+    }
+
+    private static String read(File file) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputStream in = new FileInputStream(file)) {
+            byte[] buffer = new byte[4096];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                bytes.write(buffer, 0, count);
+            }
+        }
+        return bytes.toString("UTF-8");
+    }
+}
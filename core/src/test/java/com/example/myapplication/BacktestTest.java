@@ -0,0 +1,90 @@
+package com.example.myapplication;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs the walk-forward Backtest. The synthetic league checks the harness itself. The bundled
+ * fixture (src/test/resources/backtest/two_seasons.csv) holds two seasons on the fixture list of
+ * the 2024/2025 gameplan with results drawn from fixed team strengths; it is replayed on every
+ * build. The downloaded dataset is not part of the repository: copy it from the app's files
+ * directory into core/ or pass -Dbacktest.data=path/to/file.csv to replay it as well.
+ * Both replays have to beat guessing every outcome with probability 1/3.
+ */
+public class BacktestTest {
+    // Name of the merged dataset in the app's files directory
+    private static final String DATA_FILE = "2015-2024_Bundesligadata.csv";
+    // Two seasons in the stored dataset layout, on the test classpath
+    private static final String BUNDLED_DATA = "/backtest/two_seasons.csv";
+    // Brier score and log-loss of predicting 1/3 for home win, draw and away win
+    private static final double UNIFORM_BRIER = 2.0 / 3;
+    private static final double UNIFORM_LOG_LOSS = Math.log(3);
+    private static final String[] TEAMS = {"Bayern", "Dortmund", "Leipzig", "Freiburg", "Bochum", "Darmstadt"};
+
+    @Test
+    public void syntheticLeague_predictsEveryMatchAfterTheFirstSeason() throws IOException {
+        MatchTable.Builder builder = new MatchTable.Builder();
+        int matchesPerSeason = 0;
+        for (int season = 0; season < 3; season++) {
+            String name = (2020 + season) + "/" + (2021 + season);
+            int gameday = 1;
+            for (int home = 0; home < TEAMS.length; home++) {
+                for (int away = 0; away < TEAMS.length; away++) {
+                    if (home == away) continue;
+                    // Lower index is stronger
+                    builder.add(name, gameday++ / 3 + 1, TEAMS[home], TEAMS[away],
+                            (TEAMS.length - home + season) % 4, (TEAMS.length - away) % 3);
+                    if (season == 0) matchesPerSeason++;
+                }
+            }
+        }
+
+        Backtest.Report report = Backtest.run(builder.build(), 1);
+
+        assertEquals(2 * matchesPerSeason, report.matches);
+        assertTrue(report.brierScore() > 0 && report.brierScore() < 2);
+        assertTrue(report.logLoss() > 0);
+        int calibrated = 0;
+        for (int count : report.bucketCount) calibrated += count;
+        assertEquals(3 * report.matches, calibrated);
+    }
+
+    @Test
+    public void bundledSeasons_beatUniformGuessing() throws IOException {
+        MatchTable history;
+        try (InputStream in = BacktestTest.class.getResourceAsStream(BUNDLED_DATA)) {
+            assertNotNull("Missing test resource " + BUNDLED_DATA, in);
+            history = new MatchCsv().read(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+
+        Backtest.Report report = Backtest.run(history, 1);
+
+        // Every match of the second season is predicted
+        assertEquals(306, report.matches);
+        assertBeatsUniformGuessing(report);
+    }
+
+    @Test
+    public void historicalDataset_beatsUniformGuessing() throws IOException {
+        File data = new File(System.getProperty("backtest.data", DATA_FILE));
+        Assume.assumeTrue("No historical dataset at " + data.getAbsolutePath(), data.isFile());
+
+        Backtest.Report report = Backtest.run(new MatchCsv().read(data), 1);
+
+        assertTrue(report.matches > 0);
+        assertBeatsUniformGuessing(report);
+    }
+
+    private static void assertBeatsUniformGuessing(Backtest.Report report) {
+        assertTrue(report.toString(), report.brierScore() < UNIFORM_BRIER);
+        assertTrue(report.toString(), report.logLoss() < UNIFORM_LOG_LOSS);
+    }
+}
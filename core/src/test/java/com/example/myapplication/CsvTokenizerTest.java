@@ -0,0 +1,111 @@
+package com.example.myapplication;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks field splitting, quoting, projection and int decoding of CsvTokenizer.
+ */
+public class CsvTokenizerTest {
+
+    @Test
+    public void nextRecord_splitsFieldsAndKeepsTrailingEmptyFields() throws IOException {
+        CsvTokenizer csv = tokenizer("2024/2025,1,D1,,2,\r\nsecond\n");
+
+        assertTrue(csv.nextRecord());
+        assertEquals(6, csv.fieldCount());
+        assertEquals("2024/2025", csv.getString(0));
+        assertEquals("", csv.getString(3));
+        assertTrue(csv.isBlank(5));
+
+        assertTrue(csv.nextRecord());
+        assertEquals(1, csv.fieldCount());
+        assertEquals("second", csv.getString(0));
+        assertFalse(csv.nextRecord());
+    }
+
+    @Test
+    public void nextRecord_handlesQuotedFields() throws IOException {
+        CsvTokenizer csv = tokenizer("\"Bayern, Munich\",\"say \"\"hi\"\"\",\"two\nlines\",x\n");
+
+        assertTrue(csv.nextRecord());
+        assertEquals(4, csv.fieldCount());
+        assertEquals("Bayern, Munich", csv.getString(0));
+        assertEquals("say \"hi\"", csv.getString(1));
+        assertEquals("two\nlines", csv.getString(2));
+        assertEquals("x", csv.getString(3));
+
+        StringBuilder out = new StringBuilder();
+        csv.appendField(0, out);
+        out.append(',');
+        csv.appendField(1, out);
+        assertEquals("\"Bayern, Munich\",\"say \"\"hi\"\"\"", out.toString());
+    }
+
+    @Test
+    public void getInt_parsesTrimmedFieldsWithoutSubstrings() throws IOException {
+        CsvTokenizer csv = tokenizer(" 12 ,-3,+7,abc,,2147483647,2147483648\n");
+
+        assertTrue(csv.nextRecord());
+        assertEquals(12, csv.getInt(0));
+        assertEquals(-3, csv.getInt(1));
+        assertEquals(7, csv.getInt(2));
+        assertEquals(0, csv.getInt(3, 0));
+        assertEquals(-1, csv.getInt(4, -1));
+        assertEquals(Integer.MAX_VALUE, csv.getInt(5));
+        assertEquals(0, csv.getInt(6, 0));
+        assertEquals(5, csv.getInt(42, 5));
+    }
+
+    @Test
+    public void project_decodesOnlySelectedColumns() throws IOException {
+        CsvTokenizer csv = tokenizer("Season,Gameday,Div,Date\n2024/2025,3,D1,13/09/2024\n");
+
+        assertTrue(csv.nextRecord());
+        assertEquals(3, csv.indexOf("Date"));
+        assertEquals(-1, csv.indexOf("Time"));
+
+        csv.project(0, 1);
+        assertTrue(csv.nextRecord());
+        assertEquals(4, csv.fieldCount());
+        assertTrue(csv.fieldEquals(0, "2024/2025"));
+        assertEquals(3, csv.getInt(1));
+        try {
+            csv.getString(3);
+            fail("column outside the projection was decoded");
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void nextRecord_dropsByteOrderMark() throws IOException {
+        CsvTokenizer csv = tokenizer("\uFEFFDiv,Date\n");
+
+        assertTrue(csv.nextRecord());
+        assertEquals(0, csv.indexOf("Div"));
+    }
+
+    @Test
+    public void nextRecord_handlesRecordsLongerThanTheBuffer() throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            line.append(i).append(',');
+        }
+        line.append("end\n");
+        CsvTokenizer csv = new CsvTokenizer(new StringReader(line.toString()), 16);
+
+        assertTrue(csv.nextRecord());
+        assertEquals(101, csv.fieldCount());
+        assertEquals(99, csv.getInt(99));
+        assertEquals("end", csv.getString(100));
+    }
+
+    private static CsvTokenizer tokenizer(String text) {
+        return new CsvTokenizer(new StringReader(text));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.myapplication;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that EloRatings applied incrementally or read back from disk match a full replay.
+ */
+public class EloRatingsTest {
+
+    private static final String[] TEAMS = {"Bayern", "Dortmund", "Leipzig", "Bremen"};
+
+    // Two double round robins with results derived from the team order
+    private static MatchTable.Builder league(int rounds) {
+        MatchTable.Builder builder = new MatchTable.Builder();
+        for (int round = 0; round < rounds; round++) {
+            String season = round < 6 ? "2022/2023" : "2023/2024";
+            for (int home = 0; home < TEAMS.length; home++) {
+                for (int away = 0; away < TEAMS.length; away++) {
+                    if (home == away) continue;
+                    builder.add(season, round % 6 + 1, TEAMS[home], TEAMS[away],
+                            (TEAMS.length - home + round) % 4, (TEAMS.length - away) % 3);
+                }
+            }
+        }
+        return builder;
+    }
+
+    @Test
+    public void apply_onlyAppliesNewRowsAndMatchesFullReplay() {
+        EloRatings incremental = EloRatings.fromTable(league(4).build());
+        assertEquals(4 * 12, incremental.getAppliedRows());
+
+        MatchTable extended = league(9).build();
+        assertEquals(5 * 12, incremental.apply(extended));
+        assertEquals(0, incremental.apply(extended));
+
+        EloRatings replayed = EloRatings.fromTable(extended);
+        for (String team : TEAMS) {
+            assertEquals(replayed.rating(team), incremental.rating(team), 1e-9);
+        }
+        assertTrue(replayed.rating("Bayern") > replayed.rating("Bremen"));
+        assertEquals(EloRatings.INITIAL_RATING, replayed.rating("Schalke"), 0);
+    }
+
+    @Test
+    public void apply_rebuildsWhenTheDatasetWasReplaced() {
+        EloRatings ratings = EloRatings.fromTable(league(4).build());
+
+        MatchTable.Builder other = new MatchTable.Builder();
+        other.add("2023/2024", 1, "Bremen", "Bayern", 3, 0);
+        MatchTable replaced = other.build();
+        assertEquals(1, ratings.apply(replaced));
+
+        assertEquals(1, ratings.getAppliedRows());
+        assertEquals(EloRatings.fromTable(replaced).rating("Bremen"), ratings.rating("Bremen"), 1e-9);
+    }
+
+    @Test
+    public void writeAndRead_restoreTheState() throws IOException {
+        File file = File.createTempFile("ratings", ".elo");
+        try {
+            EloRatings ratings = EloRatings.fromTable(league(4).build());
+            ratings.write(file);
+
+            EloRatings restored = EloRatings.read(file);
+            assertNotNull(restored);
+            assertEquals(ratings.getAppliedRows(), restored.getAppliedRows());
+            for (String team : TEAMS) {
+                assertEquals(ratings.rating(team), restored.rating(team), 0);
+            }
+
+            // Continuing from disk gives the same result as continuing in memory
+            MatchTable extended = league(9).build();
+            restored.apply(extended);
+            ratings.apply(extended);
+            for (String team : TEAMS) {
+                assertEquals(ratings.rating(team), restored.rating(team), 1e-9);
+            }
+        } finally {
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.myapplication;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the gameday index of FixtureCalendar on a small gameplan without header.
+ */
+public class FixtureCalendarTest {
+    private static final String GAMEPLAN =
+            "2024/2025,1,23/08/2024/2025,20:30,M'gladbach,Leverkusen\n" +
+            "2024/2025,3,13/09/2024/2025,20:30,Leverkusen,Hoffenheim\n" +
+            "2024/2025,1,24/08/2024/2025,15:30,Mainz,Union Berlin\n" +
+            "2024/2025,4,20/09/2024/2025,20:30,Werder Bremen,Heidenheim\n" +
+            "2024/2025,3,14/09/2024/2025,15:30,Mainz,Werder Bremen\n";
+
+    @Test
+    public void parse_keepsFirstRowAndIndexesByGameday() throws IOException {
+        FixtureCalendar calendar = FixtureCalendar.parse(new StringReader(GAMEPLAN));
+
+        assertEquals("2024/2025", calendar.season);
+        assertEquals(4, calendar.getMaxGameday());
+        assertEquals(2, calendar.fixturesOf(1).size());
+        assertEquals("M'gladbach", calendar.nameOf(calendar.fixturesOf(1).get(0).homeTeam));
+        assertTrue(calendar.fixturesOf(2).isEmpty());
+        assertTrue(calendar.fixturesOf(35).isEmpty());
+        assertEquals("Mainz", calendar.nameOf(calendar.fixturesOf(3).get(1).homeTeam));
+    }
+
+    @Test
+    public void nextGamedayAndRemainingFixtures_skipGamedaysWithoutFixtures() throws IOException {
+        FixtureCalendar calendar = FixtureCalendar.parse(new StringReader(GAMEPLAN));
+
+        assertEquals(1, calendar.nextGameday(0));
+        assertEquals(3, calendar.nextGameday(1));
+        assertEquals(0, calendar.nextGameday(4));
+        assertEquals(Arrays.asList(3, 4), calendar.gamedaysAfter(1));
+        assertEquals(3, calendar.fixturesAfter(1).size());
+        assertEquals(4, calendar.fixturesAfter(3).get(0).gameday);
+        assertTrue(calendar.fixturesAfter(4).isEmpty());
+    }
+
+    @Test
+    public void parse_skipsHeaderAndReadsDates() throws IOException {
+        FixtureCalendar calendar = FixtureCalendar.parse(new StringReader(
+                "Season,Gameday,Date,Time,HomeTeam,AwayTeam\n" + GAMEPLAN));
+
+        assertEquals(5, calendar.fixturesAfter(0).size());
+        assertEquals(20240823, calendar.fixturesOf(1).get(0).dateKey);
+        assertEquals(0, FixtureCalendar.parseDateKey("tbd"));
+    }
+}
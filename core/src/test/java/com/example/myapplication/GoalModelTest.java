@@ -0,0 +1,58 @@
+package com.example.myapplication;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the score matrix markets and the fitted team strengths of GoalModel.
+ */
+public class GoalModelTest {
+
+    @Test
+    public void scoreMatrix_marketsAddUpAndMatchIndependentPoisson() {
+        ScoreMatrix matrix = new ScoreMatrix().fill(1.6, 1.1, 0);
+
+        assertEquals(1.0, matrix.homeWin() + matrix.draw() + matrix.awayWin(), 1e-12);
+        // P(0:0) = e^-lambda * e^-mu for independent Poisson goals
+        assertEquals(Math.exp(-1.6) * Math.exp(-1.1), matrix.exactScore(0, 0), 1e-6);
+        assertEquals(1 - matrix.exactScore(0, 0) - matrix.exactScore(1, 0) - matrix.exactScore(0, 1),
+                matrix.over(1.5), 1e-12);
+        assertTrue(matrix.over(2.5) < matrix.over(1.5));
+        double noHomeGoal = Math.exp(-1.6);
+        double noAwayGoal = Math.exp(-1.1);
+        assertEquals((1 - noHomeGoal) * (1 - noAwayGoal), matrix.bothTeamsScore(), 1e-6);
+        assertArrayEquals(new int[] {1, 1}, matrix.mostLikelyScore());
+    }
+
+    @Test
+    public void scoreMatrix_negativeRhoMovesProbabilityToDraws() {
+        double independentDraw = new ScoreMatrix().fill(1.4, 1.2, 0).draw();
+        ScoreMatrix corrected = new ScoreMatrix().fill(1.4, 1.2, -0.1);
+
+        assertTrue(corrected.draw() > independentDraw);
+        assertEquals(1.0, corrected.homeWin() + corrected.draw() + corrected.awayWin(), 1e-12);
+    }
+
+    @Test
+    public void fit_strongTeamGetsHigherRatesThanWeakTeam() {
+        MatchTable.Builder builder = new MatchTable.Builder();
+        String[] teams = {"Strong", "Average", "Weak"};
+        for (int round = 0; round < 10; round++) {
+            builder.add("2023/2024", round + 1, "Strong", "Weak", 3, 0);
+            builder.add("2023/2024", round + 1, "Weak", "Strong", 0, 2);
+            builder.add("2023/2024", round + 1, "Average", teams[round % 2 == 0 ? 0 : 2], 1, 1);
+        }
+        MatchTable table = builder.build();
+        GoalModel model = GoalModel.fit(table);
+        int strong = table.teams.idOf("Strong");
+        int weak = table.teams.idOf("Weak");
+
+        assertTrue(model.homeRate(strong, weak) > model.homeRate(weak, strong));
+        assertTrue(model.awayRate(weak, strong) > model.awayRate(strong, weak));
+        ScoreMatrix matrix = model.scores(strong, weak, new ScoreMatrix());
+        assertTrue(matrix.homeWin() > 0.6);
+        // Unknown teams are treated as league average
+        assertEquals(model.homeAverage, model.homeRate(TeamDictionary.UNKNOWN, TeamDictionary.UNKNOWN), 1e-12);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.myapplication;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that SeasonNormalizer maps season files with different column layouts onto MatchSchema by header name.
+ */
+public class MatchSchemaTest {
+    // Older season: no Time column, shots on target before shots
+    private static final String OLD_SEASON =
+            "Div,Date,HomeTeam,AwayTeam,FTHG,FTAG,FTR,HTHG,HTAG,HTR,HST,AST,HS,AS,B365H\n"
+                    + "D1,14/08/2015,Bayern Munich,Hamburg,5,0,H,1,0,H,10,1,22,6,1.1\n"
+                    + ",,,,,,,,,,,,,,\n";
+
+    // Newer season: Time column, no shot statistics, odds in between
+    private static final String NEW_SEASON =
+            "Div,Date,Time,HomeTeam,AwayTeam,B365H,FTHG,FTAG,HTHG,HTAG,HY,AY\n"
+                    + "D1,23/08/2024,19:30,M'gladbach,Leverkusen,4.5,2,3,0,2,1,\"2\"\n";
+
+    private static SeasonNormalizer.Season normalize(String season, String csv) throws IOException {
+        return SeasonNormalizer.normalize(season, new BufferedReader(new StringReader(csv)));
+    }
+
+    private static MatchTable merge(SeasonNormalizer.Season... seasons) throws IOException {
+        StringBuilder csv = new StringBuilder(MatchSchema.HEADER).append('\n');
+        for (SeasonNormalizer.Season season : seasons) {
+            for (String row : season.rows) {
+                csv.append(row).append('\n');
+            }
+        }
+        return new MatchCsv().read(new StringReader(csv.toString()));
+    }
+
+    @Test
+    public void normalize_keepsOnlyTheSchemaColumnsInSchemaOrder() throws IOException {
+        SeasonNormalizer.Season season = normalize("2015/2016", OLD_SEASON);
+
+        assertEquals(MatchSchema.HEADER, season.header);
+        assertEquals(1, season.rows.size());
+        assertEquals("2015/2016,1,14/08/2015,Bayern Munich,Hamburg,5,0,1,0,22,6,10,1,,,,,,,,",
+                season.rows.get(0));
+    }
+
+    @Test
+    public void seasonsWithDifferentLayouts_lineUpInTheMergedFile() throws IOException {
+        MatchTable table = merge(normalize("2015/2016", OLD_SEASON), normalize("2024/2025", NEW_SEASON));
+        StatsCube cube = table.getStats();
+        int bayern = table.teams.idOf("Bayern Munich");
+        int leverkusen = table.teams.idOf("Leverkusen");
+        int oldSeason = table.seasons.idOf("2015/2016");
+        int newSeason = table.seasons.idOf("2024/2025");
+
+        assertEquals(2, table.size());
+        assertEquals(20240823, table.date[1]);
+        assertEquals(3, table.awayGoals[1]);
+        assertEquals(10, cube.total(oldSeason, bayern, StatsCube.SHOTS_ON_TARGET, StatsCube.FOR));
+        assertEquals(22, cube.total(oldSeason, bayern, StatsCube.SHOTS, StatsCube.FOR));
+        assertEquals(0, cube.samples(newSeason, leverkusen, StatsCube.SHOTS));
+        assertEquals(2, cube.total(newSeason, leverkusen, StatsCube.YELLOW_CARDS, StatsCube.FOR));
+        assertEquals(2, cube.total(newSeason, leverkusen, StatsCube.HALF_TIME_GOALS, StatsCube.FOR));
+    }
+
+    @Test
+    public void convert_mapsAMergedFileOfTheOldLayout() throws IOException {
+        // Full football-data columns behind Season and Gameday, as earlier versions stored them
+        String old = "Season,Gameday,Div,Date,HomeTeam,AwayTeam,FTHG,FTAG,FTR,HTHG,HTAG,HTR,HS,AS,HST,AST\n"
+                + "2023/2024,1,D1,18/08/2023,Werder Bremen,Bayern Munich,0,4,A,0,1,A,8,19,2,9\n";
+        List<String> rows = MatchSchema.convert(new StringReader(old));
+
+        assertEquals(1, rows.size());
+        assertEquals("2023/2024,1,18/08/2023,Werder Bremen,Bayern Munich,0,4,0,1,8,19,2,9,,,,,,,,", rows.get(0));
+    }
+
+    @Test
+    public void normalize_failsWithoutTheTeams() {
+        try {
+            normalize("2024/2025", "Div,Date,FTHG,FTAG\nD1,23/08/2024,2,3\n");
+            fail("Expected an IOException");
+        } catch (IOException e) {
+            assertEquals("Missing column HomeTeam", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.myapplication;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.StringReader;
+import java.io.Writer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the MatchSource implementations reload changed data and that PredictionModel
+ * loads from them without Android.
+ */
+public class MatchSourceTest {
+    private static final String HEADER = "Season,Gameday,Div,Date,HomeTeam,AwayTeam,FTHG,FTAG,FTR,HTHG,HTAG\n";
+    private static final String GAMEPLAN = "2024/2025,2,30/08/2024/2025,20:30,Bayern,Bremen\n";
+
+    private static File writeCsv(String rows) throws IOException {
+        File file = File.createTempFile("matches", ".csv");
+        file.deleteOnExit();
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8")) {
+            writer.write(HEADER);
+            writer.write(rows);
+        }
+        return file;
+    }
+
+    private static MatchTable table(int matches) {
+        MatchTable.Builder builder = new MatchTable.Builder();
+        for (int i = 0; i < matches; i++) {
+            builder.add("2024/2025", 1, i % 2 == 0 ? "Bayern" : "Bremen", i % 2 == 0 ? "Bremen" : "Bayern", 2, 1);
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void csvSource_readsTeamNamesAsUtf8() throws IOException {
+        File file = writeCsv("2024/2025,1,D1,23/08/2024,M\u00fcnchen,K\u00f6ln,3,0,H,1,0\n");
+        MatchTable table = FileMatchSource.csv(file).getTable();
+
+        assertEquals("M\u00fcnchen", table.getTeams().nameOf(table.getHomeTeam(0)));
+        assertEquals("K\u00f6ln", table.getTeams().nameOf(table.getAwayTeam(0)));
+    }
+
+    @Test
+    public void csvSource_reloadsOnceTheFileChanges() throws IOException {
+        File file = writeCsv("2024/2025,1,D1,23/08/2024,Bayern,Bremen,3,0,H,1,0\n");
+        FileMatchSource source = FileMatchSource.csv(file);
+
+        long generation = source.getGeneration();
+        MatchTable first = source.getTable();
+        assertEquals(1, first.size);
+        assertSame(first, source.getTable());
+        assertEquals(generation, source.getGeneration());
+
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file, true), "UTF-8")) {
+            writer.write("2024/2025,2,D1,30/08/2024,Bremen,Bayern,1,1,D,0,0\n");
+        }
+        assertTrue(file.setLastModified(file.lastModified() + 2000));
+
+        assertTrue(generation != source.getGeneration());
+        assertEquals(2, source.getTable().size);
+        assertEquals(EloRatings.fromTable(source.getTable()).rating("Bayern"),
+                source.getRatings().rating("Bayern"), 1e-9);
+    }
+
+    @Test
+    public void snapshotSource_readsTheSnapshotWithoutItsCsv() throws IOException {
+        File csv = writeCsv("2024/2025,1,D1,23/08/2024,Bayern,Bremen,3,0,H,1,0\n");
+        File snapshot = File.createTempFile("matches", ".bin");
+        snapshot.deleteOnExit();
+        MatchSnapshot.write(new MatchCsv().read(csv), snapshot, csv);
+        assertTrue(csv.delete());
+
+        MatchTable table = FileMatchSource.snapshot(snapshot).getTable();
+        assertEquals(1, table.size);
+        assertEquals("Bayern", table.teams.nameOf(table.homeTeam[0]));
+        assertEquals(3, table.homeGoals[0]);
+        assertEquals(20240823, table.date[0]);
+    }
+
+    @Test
+    public void withSnapshot_fallsBackToTheCsvWhenATeamIdIsCorrupt() throws IOException {
+        File csv = writeCsv("2024/2025,1,D1,23/08/2024,Bayern,Bremen,3,0,H,1,0\n");
+        File snapshot = File.createTempFile("matches", ".bin");
+        snapshot.deleteOnExit();
+        MatchSnapshot.write(new MatchCsv().read(csv), snapshot, csv);
+
+        // The only row is at the end of the file: season (2), gameday (1), date (4), then the home team ID
+        try (RandomAccessFile file = new RandomAccessFile(snapshot, "rw")) {
+            long homeTeam = file.length() - (13 + 2 * StatsCube.ROW_STATS) + 7;
+            file.seek(homeTeam);
+            file.writeByte(0x7F);
+        }
+
+        try {
+            MatchSnapshot.read(snapshot, csv);
+            fail("Expected an IOException");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Corrupt snapshot"));
+        }
+        MatchTable table = FileMatchSource.withSnapshot(csv, snapshot).getTable();
+        assertEquals(1, table.size);
+        assertEquals("Bayern", table.teams.nameOf(table.homeTeam[0]));
+        assertEquals("Bremen", table.teams.nameOf(table.awayTeam[0]));
+    }
+
+    @Test(expected = IOException.class)
+    public void snapshotSource_rejectsFilesThatAreNoSnapshot() throws IOException {
+        File csv = writeCsv("");
+        FileMatchSource.snapshot(csv).getTable();
+    }
+
+    @Test
+    public void load_buildsModelFromInMemorySourcesAndDetectsChanges() throws IOException {
+        InMemoryMatchSource matches = new InMemoryMatchSource(table(4));
+        FixtureSource fixtures = FixtureSource.of(FixtureCalendar.parse(new StringReader(GAMEPLAN)));
+
+        PredictionModel model = PredictionModel.load(fixtures, matches);
+        assertEquals("2024/2025", model.getSeason());
+        assertEquals(4, model.table.size);
+        assertFalse(model.isStale(matches));
+
+        matches.set(table(6));
+        assertTrue(model.isStale(matches));
+        assertFalse(PredictionModel.load(fixtures, matches).isStale(matches));
+    }
+}
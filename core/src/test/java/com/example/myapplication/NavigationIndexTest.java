@@ -0,0 +1,54 @@
+package com.example.myapplication;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the season, gameday and row lookups of NavigationIndex on a table whose gamedays are not contiguous.
+ */
+public class NavigationIndexTest {
+
+    private static MatchTable table() {
+        MatchTable.Builder builder = new MatchTable.Builder();
+        builder.add("2022/2023", 1, "Bayern", "Bremen", 2, 0);
+        builder.add("2022/2023", 1, "Dortmund", "Leipzig", 1, 1);
+        builder.add("2022/2023", 2, "Bremen", "Dortmund", 0, 3);
+        builder.add("2023/2024", 3, "Leipzig", "Bayern", 1, 2);
+        builder.add("2023/2024", 1, "Bremen", "Augsburg", 1, 0);
+        // Postponed match of the first gameday, played after the third
+        builder.add("2022/2023", 1, "Augsburg", "Mainz", 0, 0);
+        return builder.build();
+    }
+
+    @Test
+    public void seasonsAndGamedays_areSorted() {
+        MatchTable table = table();
+        NavigationIndex navigation = table.getNavigation();
+
+        assertEquals(Arrays.asList("2023/2024", "2022/2023"), navigation.seasonNamesLatestFirst());
+        assertEquals(Arrays.asList(1, 2), navigation.gamedaysOf(table.seasons.idOf("2022/2023")));
+        assertEquals(Arrays.asList(1, 3), navigation.gamedaysOf(table.seasons.idOf("2023/2024")));
+        assertEquals(Collections.emptyList(), navigation.gamedaysOf(table.seasons.idOf("2010/2011")));
+        assertEquals(Arrays.asList("Augsburg", "Bayern", "Bremen", "Dortmund", "Leipzig", "Mainz"),
+                navigation.teamNames());
+    }
+
+    @Test
+    public void rows_holdTheMatchesOfOneGamedayInTableOrder() {
+        MatchTable table = table();
+        NavigationIndex navigation = table.getNavigation();
+        int season = table.seasons.idOf("2022/2023");
+
+        int start = navigation.start(season, 1);
+        int end = navigation.end(season, 1);
+        assertArrayEquals(new int[]{0, 1, 5}, Arrays.copyOfRange(navigation.rows(), start, end));
+
+        assertEquals(1, navigation.end(season, 2) - navigation.start(season, 2));
+        assertEquals(0, navigation.end(season, 3) - navigation.start(season, 3));
+        assertEquals(0, navigation.end(TeamDictionary.UNKNOWN, 1) - navigation.start(TeamDictionary.UNKNOWN, 1));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.myapplication;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks LRU eviction and copying of PredictionCache and that every PredictionModel keeps its own predictions.
+ */
+public class PredictionCacheTest {
+
+    @Test
+    public void get_returnsStoredPredictionsForSameGamedayOnly() {
+        PredictionCache cache = new PredictionCache(4);
+        cache.put(12, predictions("Bayern Munich", "Dortmund"));
+
+        assertEquals("Dortmund", cache.get(12).get(0).awayTeam);
+        assertNull(cache.get(13));
+    }
+
+    @Test
+    public void put_evictsLeastRecentlyUsedEntry() {
+        PredictionCache cache = new PredictionCache(2);
+        cache.put(10, predictions("A", "B"));
+        cache.put(11, predictions("C", "D"));
+        cache.get(10); // 11 is now the least recently used entry
+        cache.put(12, predictions("E", "F"));
+
+        assertNotNull(cache.get(10));
+        assertNull(cache.get(11));
+        assertNotNull(cache.get(12));
+    }
+
+    @Test
+    public void putAndGet_copyTheMatches() {
+        PredictionCache cache = new PredictionCache(4);
+        List<FutureMatch> stored = predictions("A", "B");
+        stored.get(0).homeProbability = 0.5;
+        cache.put(10, stored);
+        stored.get(0).homeProbability = 0.9;
+
+        List<FutureMatch> first = cache.get(10);
+        first.get(0).homeProbability = 0.1;
+        first.clear();
+
+        List<FutureMatch> second = cache.get(10);
+        assertEquals(1, second.size());
+        assertEquals(0.5, second.get(0).homeProbability, 0);
+        assertNotSame(stored.get(0), second.get(0));
+    }
+
+    @Test
+    public void models_ofDifferentSourcesWithTheSameGeneration_doNotShareResults() throws IOException {
+        FixtureCalendar fixtures = FixtureCalendar.parse(new StringReader(
+                "2024/2025,2,01/09/2024,15:30,Bayern Munich,Dortmund\n"));
+        // Both sources are at generation 0, the data differs
+        PredictionModel strongHome = model(fixtures, 4, 0);
+        PredictionModel strongAway = model(fixtures, 0, 4);
+
+        FutureMatch home = new PredictionEngine(strongHome).calculatePredictions(2).get(0);
+        FutureMatch away = new PredictionEngine(strongAway).calculatePredictions(2).get(0);
+
+        assertTrue(home.homeProbability > home.awayProbability);
+        assertTrue(away.homeProbability < away.awayProbability);
+        assertNull(new PredictionEngine(model(fixtures, 4, 0)).getCachedPredictions(2));
+    }
+
+    private static PredictionModel model(FixtureCalendar fixtures, int bayernGoals, int dortmundGoals) {
+        MatchTable.Builder builder = new MatchTable.Builder();
+        for (int gameday = 1; gameday <= 10; gameday++) {
+            builder.add("2023/2024", gameday, "Bayern Munich", "Dortmund", bayernGoals, dortmundGoals);
+            builder.add("2023/2024", gameday, "Dortmund", "Bayern Munich", dortmundGoals, bayernGoals);
+        }
+        return new PredictionModel("2024/2025", fixtures, builder.build(), 0);
+    }
+
+    private static List<FutureMatch> predictions(String homeTeam, String awayTeam) {
+        return new ArrayList<>(Collections.singletonList(new FutureMatch("01.01.2025", homeTeam, awayTeam)));
+    }
+}
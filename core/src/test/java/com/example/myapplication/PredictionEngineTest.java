@@ -0,0 +1,156 @@
+package com.example.myapplication;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs PredictionEngine from several threads at once against a small in-memory model.
+ */
+public class PredictionEngineTest {
+    private static final String[] TEAMS = {"Bayern Munich", "Dortmund", "Leverkusen", "Stuttgart"};
+
+    @Test
+    public void calculatePredictions_concurrentUncachedCallsMatchSequentialResults() throws Exception {
+        MatchTable table = table();
+        FixtureCalendar fixtures = fixtures();
+
+        List<List<FutureMatch>> expected = new ArrayList<>();
+        PredictionEngine sequential = new PredictionEngine(new PredictionModel("2024/2025", fixtures, table, 0));
+        for (int gameday = 4; gameday <= 6; gameday++) {
+            expected.add(sequential.calculatePredictions(gameday));
+        }
+
+        // Every task gets its own model, so nothing is served from a cache; the models share
+        // the table and the calendar, and all tasks start predicting at the same moment
+        int tasks = 12;
+        ExecutorService executor = Executors.newFixedThreadPool(tasks);
+        CyclicBarrier start = new CyclicBarrier(tasks);
+        try {
+            List<Future<List<FutureMatch>>> futures = new ArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                int gameday = 4 + i % 3;
+                futures.add(executor.submit(() -> {
+                    PredictionEngine engine = new PredictionEngine(new PredictionModel("2024/2025", fixtures, table, 0));
+                    start.await();
+                    assertNull(engine.getCachedPredictions(gameday));
+                    return engine.calculatePredictions(gameday);
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                assertSamePredictions(expected.get(i % 3), futures.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void calculatePredictions_returnsFreshObjectsOnEveryCall() throws IOException {
+        PredictionEngine engine = new PredictionEngine(model());
+        List<FutureMatch> first = engine.calculatePredictions(4);
+        double homeProbability = first.get(0).homeProbability;
+        first.get(0).homeProbability = -1;
+
+        List<FutureMatch> second = engine.calculatePredictions(4);
+        assertNotSame(first.get(0), second.get(0));
+        assertEquals(homeProbability, second.get(0).homeProbability, 0);
+    }
+
+    @Test
+    public void calculatePredictions_returnsFixturesOfTheGameday() throws IOException {
+        PredictionEngine engine = new PredictionEngine(model());
+
+        assertEquals(3, engine.getModel().getCurrentGameday());
+        assertEquals("[4, 5, 6]", engine.getAvailableGamedays().toString());
+        List<FutureMatch> predictions = engine.calculatePredictions(5);
+        assertEquals(2, predictions.size());
+        for (FutureMatch match : predictions) {
+            double total = match.homeProbability + match.drawProbability + match.awayProbability;
+            assertEquals(1.0, total, 1e-9);
+        }
+    }
+
+    @Test
+    public void calculateRemainingSeason_matchesPerGamedayPredictions() throws IOException {
+        PredictionEngine batch = new PredictionEngine(model());
+        PredictionEngine single = new PredictionEngine(model());
+
+        SortedMap<Integer, List<FutureMatch>> season = batch.calculateRemainingSeason();
+
+        assertEquals("[4, 5, 6]", season.keySet().toString());
+        assertSamePredictions(season.get(5), batch.getCachedPredictions(5));
+        for (int gameday : season.keySet()) {
+            assertSamePredictions(single.calculatePredictions(gameday), season.get(gameday));
+        }
+    }
+
+    @Test
+    public void calculatePredictions_ofAPlayedGamedaySeeOnlyTheMatchesBeforeIt() throws IOException {
+        PredictionEngine full = new PredictionEngine(model());
+        PredictionEngine beforeGameday2 = new PredictionEngine(new PredictionModel("2024/2025", fixtures(), table(1), 0));
+
+        assertSamePredictions(beforeGameday2.calculatePredictions(2), full.calculatePredictions(2));
+        // Upcoming gamedays use every played match
+        assertTrue(full.calculatePredictions(4).get(0).homeProbability
+                != beforeGameday2.calculatePredictions(4).get(0).homeProbability);
+    }
+
+    private static void assertSamePredictions(List<FutureMatch> expected, List<FutureMatch> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).homeTeam, actual.get(i).homeTeam);
+            assertEquals(expected.get(i).homeProbability, actual.get(i).homeProbability, 0);
+            assertEquals(expected.get(i).awayProbability, actual.get(i).awayProbability, 0);
+            assertEquals(expected.get(i).totalAvgGoals, actual.get(i).totalAvgGoals, 0);
+        }
+    }
+
+    private static PredictionModel model() throws IOException {
+        return new PredictionModel("2024/2025", fixtures(), table(), 0);
+    }
+
+    // Three played gamedays of a four-team league
+    private static MatchTable table() {
+        return table(3);
+    }
+
+    // Six gamedays of the last season and the given number of the current one
+    private static MatchTable table(int playedGamedays) {
+        MatchTable.Builder builder = new MatchTable.Builder();
+        for (int gameday = 1; gameday <= 6; gameday++) {
+            for (int pair = 0; pair < 2; pair++) {
+                String home = TEAMS[(pair * 2 + gameday) % 4];
+                String away = TEAMS[(pair * 2 + gameday + 1) % 4];
+                builder.add("2023/2024", gameday, home, away, (gameday + pair) % 4, pair);
+                if (gameday <= playedGamedays) {
+                    builder.add("2024/2025", gameday, home, away, gameday % 3, (pair + gameday) % 2);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    // Gameplan for gamedays 1-6
+    private static FixtureCalendar fixtures() throws IOException {
+        StringBuilder gameplan = new StringBuilder();
+        for (int gameday = 1; gameday <= 6; gameday++) {
+            for (int pair = 0; pair < 2; pair++) {
+                gameplan.append("2024/2025,").append(gameday).append(",01/09/2024,15:30,")
+                        .append(TEAMS[(pair * 2 + gameday) % 4]).append(',')
+                        .append(TEAMS[(pair * 2 + gameday + 1) % 4]).append('\n');
+            }
+        }
+        return FixtureCalendar.parse(new StringReader(gameplan.toString()));
+    }
+}
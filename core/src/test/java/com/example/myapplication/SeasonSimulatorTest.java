@@ -0,0 +1,140 @@
+package com.example.myapplication;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Simulates the rest of a small league and checks the final-position distribution.
+ */
+public class SeasonSimulatorTest {
+    private static final String[] TEAMS = {"Bayern Munich", "Dortmund", "Leverkusen", "Stuttgart"};
+
+    @Test
+    public void run_resultDoesNotDependOnTheNumberOfThreads() throws Exception {
+        SeasonSimulator simulator = new SeasonSimulator(model(3));
+        SeasonSimulator.Result single = simulator.run(10_000, 1, 42, null);
+        SeasonSimulator.Result parallel = simulator.run(10_000, 4, 42, null);
+
+        assertEquals(10_000, parallel.getSimulations());
+        for (int team = 0; team < TEAMS.length; team++) {
+            for (int place = 1; place <= TEAMS.length; place++) {
+                assertEquals(single.probability(team, place, place), parallel.probability(team, place, place), 0);
+            }
+            assertEquals(single.expectedPoints(team), parallel.expectedPoints(team), 1e-9);
+        }
+    }
+
+    @Test
+    public void run_everyTeamGetsExactlyOnePlace() throws Exception {
+        SeasonSimulator.Result result = new SeasonSimulator(model(3)).run(5_000, 2, 7, null);
+
+        for (int team = 0; team < TEAMS.length; team++) {
+            assertEquals(1.0, result.probability(team, 1, TEAMS.length), 1e-12);
+        }
+        for (int place = 1; place <= TEAMS.length; place++) {
+            double sum = 0;
+            for (int team = 0; team < TEAMS.length; team++) {
+                sum += result.probability(team, place, place);
+            }
+            assertEquals(1.0, sum, 1e-12);
+        }
+    }
+
+    @Test
+    public void run_withoutRemainingMatchesRanksByPointsGoalDifferenceAndGoals() throws Exception {
+        SeasonSimulator simulator = new SeasonSimulator(model(6));
+        assertEquals(0, simulator.getRemainingMatches());
+
+        SeasonSimulator.Result result = simulator.run(100, 1, 1, null);
+        MatchTable table = model(6).table;
+        int season = table.seasons.idOf("2024/2025");
+        List<Integer> expected = new ArrayList<>();
+        for (int team = 0; team < TEAMS.length; team++) expected.add(team);
+        expected.sort((a, b) -> {
+            int[] x = standing(table, season, result.getTeam(a));
+            int[] y = standing(table, season, result.getTeam(b));
+            for (int i = 0; i < 3; i++) {
+                if (x[i] != y[i]) return Integer.compare(y[i], x[i]);
+            }
+            return 0;
+        });
+        for (int place = 1; place <= TEAMS.length; place++) {
+            assertEquals(1.0, result.probability(expected.get(place - 1), place, place), 0);
+        }
+    }
+
+    @Test
+    public void run_streamsGrowingPartialResults() throws Exception {
+        List<Integer> progress = new ArrayList<>();
+        SeasonSimulator.Result result = new SeasonSimulator(model(3))
+                .run(3 * SeasonSimulator.CHUNK_SIZE + 1, 2, 5, partial -> progress.add(partial.getSimulations()));
+
+        assertEquals(4, progress.size());
+        for (int i = 1; i < progress.size(); i++) {
+            assertTrue(progress.get(i) > progress.get(i - 1));
+        }
+        assertEquals(result.getSimulations(), (int) progress.get(progress.size() - 1));
+    }
+
+    @Test
+    public void remainingMatches_includePostponedFixturesOfPlayedGamedays() throws Exception {
+        // Gamedays 1-3 are played except the first match of gameday 2
+        PredictionModel model = model(3, 2);
+        SeasonSimulator simulator = new SeasonSimulator(model);
+
+        assertEquals(3, model.getCurrentGameday());
+        assertEquals(7, simulator.getRemainingMatches());
+
+        // Every simulated season hands out 2 or 3 points per remaining match on top of the played ones
+        SeasonSimulator.Result result = simulator.run(2_000, 1, 3, null);
+        int season = model.table.seasons.idOf("2024/2025");
+        double startPoints = 0;
+        double expectedPoints = 0;
+        for (int team = 0; team < TEAMS.length; team++) {
+            startPoints += model.table.cumulative.total(season, model.table.teams.idOf(TEAMS[team]), 3, CumulativeStats.POINTS);
+            expectedPoints += result.expectedPoints(team);
+        }
+        assertTrue(expectedPoints - startPoints >= 2 * 7 - 1e-9);
+        assertTrue(expectedPoints - startPoints <= 3 * 7 + 1e-9);
+    }
+
+    // {points, goal difference, goals scored} of the team in the season
+    private static int[] standing(MatchTable table, int season, String name) {
+        int team = table.teams.idOf(name);
+        int goalsFor = table.cumulative.total(season, team, 6, CumulativeStats.GOALS_FOR);
+        int goalsAgainst = table.cumulative.total(season, team, 6, CumulativeStats.GOALS_AGAINST);
+        return new int[] {table.cumulative.total(season, team, 6, CumulativeStats.POINTS),
+                goalsFor - goalsAgainst, goalsFor};
+    }
+
+    // A four-team league with a gameplan for gamedays 1-6 of which the first ones are played
+    private static PredictionModel model(int playedGamedays) throws IOException {
+        return model(playedGamedays, 0);
+    }
+
+    // Same league; the first match of postponedGameday has no result yet
+    private static PredictionModel model(int playedGamedays, int postponedGameday) throws IOException {
+        MatchTable.Builder builder = new MatchTable.Builder();
+        StringBuilder gameplan = new StringBuilder();
+        for (int gameday = 1; gameday <= 6; gameday++) {
+            for (int pair = 0; pair < 2; pair++) {
+                String home = TEAMS[(pair * 2 + gameday) % 4];
+                String away = TEAMS[(pair * 2 + gameday + 1) % 4];
+                gameplan.append("2024/2025,").append(gameday).append(",01/09/2024,15:30,")
+                        .append(home).append(',').append(away).append('\n');
+                builder.add("2023/2024", gameday, home, away, (gameday + pair) % 4, pair);
+                if (gameday <= playedGamedays && !(gameday == postponedGameday && pair == 0)) {
+                    builder.add("2024/2025", gameday, home, away, (gameday + pair) % 3, (pair + gameday) % 2);
+                }
+            }
+        }
+        FixtureCalendar fixtures = FixtureCalendar.parse(new StringReader(gameplan.toString()));
+        return new PredictionModel("2024/2025", fixtures, builder.build(), 0);
+    }
+}
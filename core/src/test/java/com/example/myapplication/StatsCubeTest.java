@@ -0,0 +1,99 @@
+package com.example.myapplication;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the season totals and rolling windows of StatsCube and the header-driven column mapping of MatchCsv.
+ */
+public class StatsCubeTest {
+    private static final double DELTA = 1e-9;
+
+    private static MatchTable table() {
+        MatchTable.Builder builder = new MatchTable.Builder();
+        builder.add("2023/2024", 1, 20230818, "Bremen", "Bayern", 0, 4)
+                .stat(StatsCube.SHOTS_ON_TARGET, 2, 9)
+                .stat(StatsCube.CORNERS, 3, 7);
+        builder.add("2023/2024", 2, 20230826, "Bayern", "Augsburg", 3, 1)
+                .stat(StatsCube.SHOTS_ON_TARGET, 7, 3)
+                .stat(StatsCube.CORNERS, 5, 2);
+        // No statistics for this match
+        builder.add("2023/2024", 3, 20230902, "Gladbach", "Bayern", 2, 2);
+        builder.add("2022/2023", 34, 20230527, "Koeln", "Bayern", 1, 2)
+                .stat(StatsCube.SHOTS_ON_TARGET, 4, 5);
+        return builder.build();
+    }
+
+    @Test
+    public void seasonTotals_splitByPerspectiveAndSide() {
+        MatchTable table = table();
+        StatsCube cube = table.getStats();
+        int bayern = table.teams.idOf("Bayern");
+        int season = table.seasons.idOf("2023/2024");
+
+        assertEquals(16, cube.total(season, bayern, StatsCube.SHOTS_ON_TARGET, StatsCube.FOR));
+        assertEquals(5, cube.total(season, bayern, StatsCube.SHOTS_ON_TARGET, StatsCube.AGAINST));
+        assertEquals(7, cube.total(season, bayern, MatchIndex.HOME, StatsCube.SHOTS_ON_TARGET, StatsCube.FOR));
+        assertEquals(9, cube.total(season, bayern, MatchIndex.AWAY, StatsCube.SHOTS_ON_TARGET, StatsCube.FOR));
+        assertEquals(9, cube.total(season, bayern, StatsCube.GOALS, StatsCube.FOR));
+        assertEquals(2, cube.games(season, bayern, MatchIndex.AWAY));
+    }
+
+    @Test
+    public void averages_skipMatchesWithoutTheStatistic() {
+        MatchTable table = table();
+        StatsCube cube = table.getStats();
+        int bayern = table.teams.idOf("Bayern");
+        int season = table.seasons.idOf("2023/2024");
+
+        assertEquals(2, cube.samples(season, bayern, StatsCube.SHOTS_ON_TARGET));
+        assertEquals(8.0, cube.average(season, bayern, StatsCube.SHOTS_ON_TARGET, StatsCube.FOR), DELTA);
+        assertEquals(3.0, cube.average(season, bayern, StatsCube.GOALS, StatsCube.FOR), DELTA);
+        assertEquals(0.0, cube.average(season, bayern, StatsCube.FOULS, StatsCube.FOR), DELTA);
+        assertEquals(0, cube.total(TeamDictionary.UNKNOWN, bayern, StatsCube.GOALS, StatsCube.FOR));
+    }
+
+    @Test
+    public void windows_followTheTimelineAcrossSeasons() {
+        MatchTable table = table();
+        StatsCube cube = table.getStats();
+        int bayern = table.teams.idOf("Bayern");
+        int end = table.getTimeline().end(bayern);
+
+        // Timeline: Koeln (5), Bremen (9), Augsburg (7), Gladbach (unknown)
+        assertEquals(16, cube.windowTotal(bayern, end, 3, StatsCube.SHOTS_ON_TARGET, StatsCube.FOR));
+        assertEquals(2, cube.windowSamples(bayern, end, 3, StatsCube.SHOTS_ON_TARGET));
+        assertEquals(21, cube.windowTotal(bayern, end, 10, StatsCube.SHOTS_ON_TARGET, StatsCube.FOR));
+        assertEquals(7.0, cube.recentAverage(bayern, 4, StatsCube.SHOTS_ON_TARGET, StatsCube.FOR), DELTA);
+        assertEquals(2.0, cube.recentAverage(bayern, 1, StatsCube.GOALS, StatsCube.FOR), DELTA);
+        assertEquals(7, cube.windowTotal(bayern, end - 1, 2, StatsCube.GOALS, StatsCube.FOR));
+    }
+
+    @Test
+    public void matchCsv_mapsColumnsByHeaderName() throws IOException {
+        // Columns in a different order than in the merged file, without fouls and cards
+        String csv = "Div,Date,Season,Gameday,AwayTeam,HomeTeam,FTAG,FTHG,HTHG,HTAG,HS,AS,AST,HST\n"
+                + "D1,30/09/2023,2023/2024,5,Bremen,Bayern,0,2,1,0,14,6,1,8\n";
+        MatchTable table = new MatchCsv().read(new StringReader(csv));
+        StatsCube cube = table.getStats();
+        int bayern = table.teams.idOf("Bayern");
+        int season = table.seasons.idOf("2023/2024");
+
+        assertEquals(bayern, table.homeTeam[0]);
+        assertEquals(2, table.homeGoals[0]);
+        assertEquals(8, cube.total(season, bayern, StatsCube.SHOTS_ON_TARGET, StatsCube.FOR));
+        assertEquals(1, cube.total(season, bayern, StatsCube.SHOTS_ON_TARGET, StatsCube.AGAINST));
+        assertEquals(14, cube.total(season, bayern, StatsCube.SHOTS, StatsCube.FOR));
+        assertEquals(1, cube.total(season, bayern, StatsCube.HALF_TIME_GOALS, StatsCube.FOR));
+        assertEquals(0, cube.samples(season, bayern, StatsCube.FOULS));
+    }
+
+    @Test(expected = IOException.class)
+    public void matchCsv_rejectsAFileWithoutTheGoals() throws IOException {
+        new MatchCsv().read(new StringReader("Season,Gameday,HomeTeam,AwayTeam\n2023/2024,1,Bayern,Bremen\n"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.myapplication;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that TeamTimeline orders a team's matches by season, gameday and date across seasons.
+ */
+public class TeamTimelineTest {
+
+    // Rows are out of order: the newer season comes first and a postponed match is appended at the end
+    private static MatchTable table() {
+        MatchTable.Builder builder = new MatchTable.Builder();
+        builder.add("2023/2024", 1, 20230818, "Bremen", "Bayern", 0, 4);
+        builder.add("2023/2024", 2, 20230826, "Bayern", "Augsburg", 3, 1);
+        builder.add("2022/2023", 33, 20230521, "Leipzig", "Bayern", 1, 3);
+        builder.add("2022/2023", 34, 20230527, "Koeln", "Bayern", 1, 2);
+        builder.add("2023/2024", 3, 20230902, "Gladbach", "Bayern", 2, 2);
+        builder.add("2022/2023", 34, 20230527, "Bremen", "Koeln", 1, 1);
+        builder.add("2023/2024", 2, 20230825, "Bremen", "Augsburg", 2, 1);
+        return builder.build();
+    }
+
+    private static int[] timelineOf(MatchTable table, String team) {
+        TeamTimeline timeline = table.getTimeline();
+        int id = table.teams.idOf(team);
+        int[] rows = new int[timeline.end(id) - timeline.start(id)];
+        System.arraycopy(timeline.rows(), timeline.start(id), rows, 0, rows.length);
+        return rows;
+    }
+
+    @Test
+    public void rows_areOrderedBySeasonGamedayAndDate() {
+        MatchTable table = table();
+
+        assertArrayEquals(new int[]{2, 3, 0, 1, 4}, timelineOf(table, "Bayern"));
+        assertArrayEquals(new int[]{5, 0, 6}, timelineOf(table, "Bremen"));
+    }
+
+    @Test
+    public void lastGamesAndForm_readFromTheEndOfTheTimeline() {
+        MatchTable table = table();
+        TeamTimeline timeline = table.getTimeline();
+        int bayern = table.teams.idOf("Bayern");
+
+        assertEquals(timeline.end(bayern) - 3, timeline.lastGamesStart(bayern, 3));
+        assertEquals("WWD", timeline.form(bayern, 3));
+        assertEquals("WWWWD", timeline.form(bayern, 10));
+        assertEquals("", timeline.form(table.teams.idOf("Dortmund"), 5));
+    }
+
+    @Test
+    public void seasonSummary_countsOnlyTheSeason() {
+        MatchTable table = table();
+        TeamTimeline timeline = table.getTimeline();
+        int bayern = table.teams.idOf("Bayern");
+
+        TeamTimeline.Summary season = timeline.seasonSummary(bayern, table.seasons.idOf("2023/2024"));
+        assertEquals(3, season.games);
+        assertEquals(2, season.wins);
+        assertEquals(1, season.draws);
+        assertEquals(9, season.goalsFor);
+        assertEquals(3, season.goalsAgainst);
+        assertEquals(4, season.biggestWin);
+
+        TeamTimeline.Summary previous = timeline.seasonSummary(bayern, table.seasons.idOf("2022/2023"));
+        assertEquals(2, previous.games);
+        assertEquals(0, timeline.seasonSummary(bayern, table.seasons.idOf("2010/2011")).games);
+    }
+
+    @Test
+    public void matchCsv_readsTheDateForTheTimeline() throws IOException {
+        String csv = "Season,Gameday,Div,Date,HomeTeam,AwayTeam,FTHG,FTAG,FTR,HTHG,HTAG\n"
+                + "2023/2024,5,D1,30/09/2023,Bayern,Bremen,2,0,H,1,0\n"
+                + "2023/2024,5,D1,29/09/2023,Augsburg,Bayern,1,1,D,0,0\n";
+        MatchTable table = new MatchCsv().read(new StringReader(csv));
+
+        assertEquals(20230930, table.date[0]);
+        assertArrayEquals(new int[]{1, 0}, timelineOf(table, "Bayern"));
+    }
+}
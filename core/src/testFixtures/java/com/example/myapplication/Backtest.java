@@ -0,0 +1,196 @@
+package com.example.myapplication;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Walk-forward backtest of PredictionEngine. Every gameday of every season after the first
+ * is predicted from a model that only contains the earlier seasons and the earlier gamedays
+ * of the same season, exactly like the app sees the data during a season.
+ *
+ * The report holds the accuracy: Brier score and log-loss of 1X2, calibration buckets and
+ * hit rates of the goal markets. The cost of a replay is measured by BacktestBenchmark in
+ * :benchmark, on the same gamedays.
+ */
+final class Backtest {
+    static final int CALIBRATION_BUCKETS = 10;
+
+    private Backtest() {
+    }
+
+    // Replays the table; the first warmupSeasons seasons (chronologically) are only used for training
+    static Report run(MatchTable history, int warmupSeasons) throws IOException {
+        Report report = new Report();
+        for (Gameday gameday : gamedays(history, warmupSeasons)) {
+            for (FutureMatch prediction : gameday.predict()) {
+                int[] result = gameday.results.get(prediction.homeTeam + '|' + prediction.awayTeam);
+                if (result != null) {
+                    report.addMatch(prediction, result[0], result[1]);
+                }
+            }
+        }
+        return report;
+    }
+
+    // Training data, fixtures and results of every predicted gameday, oldest first
+    static List<Gameday> gamedays(MatchTable history, int warmupSeasons) throws IOException {
+        List<Gameday> gamedays = new ArrayList<>();
+        int[] latestFirst = history.index.seasonsLatestFirst();
+
+        for (int s = latestFirst.length - 1 - warmupSeasons; s >= 0; s--) {
+            int season = latestFirst[s];
+            String seasonName = history.seasons.nameOf(season);
+            FixtureCalendar calendar = calendarOf(history, season);
+
+            for (int gameday = 1; gameday <= calendar.getMaxGameday(); gameday++) {
+                if (calendar.fixturesOf(gameday).isEmpty()) continue;
+                gamedays.add(new Gameday(seasonName, calendar, trainingTable(history, latestFirst, s, gameday),
+                        gameday, resultsOf(history, season, gameday)));
+            }
+        }
+        return gamedays;
+    }
+
+    // The season's matches as a gameplan, so the engine predicts the fixtures that were actually played
+    private static FixtureCalendar calendarOf(MatchTable history, int season) throws IOException {
+        StringBuilder gameplan = new StringBuilder();
+        String seasonName = history.seasons.nameOf(season);
+        for (int i = 0; i < history.size; i++) {
+            if (history.season[i] != season) continue;
+            gameplan.append(seasonName).append(',').append(history.gameday[i]).append(",,,")
+                    .append(history.teams.nameOf(history.homeTeam[i])).append(',')
+                    .append(history.teams.nameOf(history.awayTeam[i])).append('\n');
+        }
+        return FixtureCalendar.parse(new StringReader(gameplan.toString()));
+    }
+
+    // All rows of the seasons before latestFirst[s] plus the gamedays before the given one of that season
+    private static MatchTable trainingTable(MatchTable history, int[] latestFirst, int s, int gameday) {
+        boolean[] earlier = new boolean[history.seasons.size()];
+        for (int older = s + 1; older < latestFirst.length; older++) {
+            earlier[latestFirst[older]] = true;
+        }
+        int season = latestFirst[s];
+
+        MatchTable.Builder builder = new MatchTable.Builder();
+        for (int i = 0; i < history.size; i++) {
+            if (earlier[history.season[i]] || (history.season[i] == season && history.gameday[i] < gameday)) {
+                builder.add(history.seasons.nameOf(history.season[i]), history.gameday[i], history.date[i],
+                        history.teams.nameOf(history.homeTeam[i]), history.teams.nameOf(history.awayTeam[i]),
+                        history.homeGoals[i], history.awayGoals[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    // "home|away" -> {homeGoals, awayGoals} of the gameday
+    private static Map<String, int[]> resultsOf(MatchTable history, int season, int gameday) {
+        Map<String, int[]> results = new HashMap<>();
+        for (int i = 0; i < history.size; i++) {
+            if (history.season[i] == season && history.gameday[i] == gameday) {
+                results.put(history.teams.nameOf(history.homeTeam[i]) + '|' + history.teams.nameOf(history.awayTeam[i]),
+                        new int[] {history.homeGoals[i], history.awayGoals[i]});
+            }
+        }
+        return results;
+    }
+
+    /**
+     * One predicted gameday: what the app knew before it and what was played on it.
+     */
+    static final class Gameday {
+        final String season;
+        final FixtureCalendar calendar;
+        final MatchTable training;
+        final int gameday;
+        final Map<String, int[]> results;
+
+        Gameday(String season, FixtureCalendar calendar, MatchTable training, int gameday, Map<String, int[]> results) {
+            this.season = season;
+            this.calendar = calendar;
+            this.training = training;
+            this.gameday = gameday;
+            this.results = results;
+        }
+
+        // Builds the model from the training data and predicts the gameday, as the app does
+        List<FutureMatch> predict() {
+            PredictionModel model = new PredictionModel(season, calendar, training, 0);
+            return new PredictionEngine(model).calculatePredictions(gameday);
+        }
+    }
+
+    /**
+     * Accumulated accuracy of a backtest run.
+     */
+    static final class Report {
+        int matches;
+        double brierSum;
+        double logLossSum;
+        int over15Hits;
+        int over25Hits;
+        int bothTeamsScoreHits;
+        int likelyScoreHits;
+
+        // Every 1X2 probability falls into one bucket of width 1 / CALIBRATION_BUCKETS
+        final int[] bucketCount = new int[CALIBRATION_BUCKETS];
+        final double[] bucketPredicted = new double[CALIBRATION_BUCKETS];
+        final int[] bucketObserved = new int[CALIBRATION_BUCKETS];
+
+        void addMatch(FutureMatch prediction, int homeGoals, int awayGoals) {
+            matches++;
+            double[] probabilities = {prediction.homeProbability, prediction.drawProbability, prediction.awayProbability};
+            int outcome = homeGoals > awayGoals ? 0 : homeGoals == awayGoals ? 1 : 2;
+            for (int k = 0; k < 3; k++) {
+                int observed = k == outcome ? 1 : 0;
+                brierSum += (probabilities[k] - observed) * (probabilities[k] - observed);
+                int bucket = Math.min(CALIBRATION_BUCKETS - 1, (int) (probabilities[k] * CALIBRATION_BUCKETS));
+                bucketCount[bucket]++;
+                bucketPredicted[bucket] += probabilities[k];
+                bucketObserved[bucket] += observed;
+            }
+            logLossSum -= Math.log(Math.max(1e-15, probabilities[outcome]));
+
+            int goals = homeGoals + awayGoals;
+            if ((prediction.over15Probability > 0.5) == (goals > 1.5)) over15Hits++;
+            if ((prediction.over25Probability > 0.5) == (goals > 2.5)) over25Hits++;
+            if ((prediction.bothTeamsScoreProbability > 0.5) == (homeGoals > 0 && awayGoals > 0)) bothTeamsScoreHits++;
+            if (prediction.likelyHomeGoals == homeGoals && prediction.likelyAwayGoals == awayGoals) likelyScoreHits++;
+        }
+
+        // Mean multi-class Brier score of 1X2, 0 is perfect, 2 is worst
+        double brierScore() {
+            return matches == 0 ? 0 : brierSum / matches;
+        }
+
+        // Mean negative log likelihood of the actual outcome
+        double logLoss() {
+            return matches == 0 ? 0 : logLossSum / matches;
+        }
+
+        double hitRate(int hits) {
+            return matches == 0 ? 0 : (double) hits / matches;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder();
+            text.append(String.format("%d matches%n", matches));
+            text.append(String.format("1X2 Brier %.4f, log-loss %.4f%n", brierScore(), logLoss()));
+            text.append(String.format("Hit rates: over 1.5 %.3f, over 2.5 %.3f, BTTS %.3f, likely score %.3f%n",
+                    hitRate(over15Hits), hitRate(over25Hits), hitRate(bothTeamsScoreHits), hitRate(likelyScoreHits)));
+            text.append("Calibration (bucket: count, mean predicted, observed)\n");
+            for (int b = 0; b < CALIBRATION_BUCKETS; b++) {
+                if (bucketCount[b] == 0) continue;
+                text.append(String.format("  %.1f-%.1f: %5d  %.3f  %.3f%n",
+                        (double) b / CALIBRATION_BUCKETS, (double) (b + 1) / CALIBRATION_BUCKETS, bucketCount[b],
+                        bucketPredicted[b] / bucketCount[b], (double) bucketObserved[b] / bucketCount[b]));
+            }
+            return text.toString();
+        }
+    }
+}